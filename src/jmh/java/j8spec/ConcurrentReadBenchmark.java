@@ -0,0 +1,62 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Measures how {@link J8Spec#read(Class)} scales when several threads read specs at the same time. The throughput
+ * of the N-thread benchmarks should be close to N times the throughput of the single-thread one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConcurrentReadBenchmark {
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"2"})
+    public int depth;
+
+    @Setup
+    public void defineShape() {
+        SyntheticSpec.shape(width, depth);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Example> read_on_1_thread() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public List<Example> read_on_2_threads() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Example> read_on_4_threads() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<Example> read_on_8_threads() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+}
@@ -0,0 +1,64 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each pass {@link J8Spec#read(Class)} makes over the block definitions of a spec, defined once in the
+ * setup: the duplicated block validation, the execution strategy selection and the example building, which also
+ * orders the examples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DefinitionPassBenchmark {
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"1", "3"})
+    public int depth;
+
+    private ExampleGroupDefinition definition;
+
+    @Setup
+    public void define() {
+        SyntheticSpec.shape(width, depth);
+        definition = J8Spec.define(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    public DuplicatedBlockValidator validate_duplicated_blocks() {
+        DuplicatedBlockValidator validator = new DuplicatedBlockValidator();
+        definition.accept(validator);
+        return validator;
+    }
+
+    @Benchmark
+    public BlockExecutionStrategy select_execution_strategy() {
+        BlockExecutionStrategySelector selector = new BlockExecutionStrategySelector();
+        definition.accept(selector);
+        return selector.strategy();
+    }
+
+    @Benchmark
+    public ExampleBuilder build_examples() {
+        ExampleBuilder builder = new ExampleBuilder(BlockExecutionStrategy.BLACK_LIST);
+        definition.accept(builder);
+        return builder;
+    }
+}
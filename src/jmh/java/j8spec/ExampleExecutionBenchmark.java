@@ -0,0 +1,62 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static j8spec.J8Spec.afterEach;
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.let;
+import static j8spec.J8Spec.var;
+
+/**
+ * Measures the overhead of running an example that passes, nested in two example groups with a variable and before
+ * each and after each hooks. Run with <code>-prof gc</code> to see the bytes allocated per example
+ * (<code>gc.alloc.rate.norm</code>), which should be zero.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExampleExecutionBenchmark {
+
+    public static class PassingSpec {{
+        Var<String> value = var();
+
+        let(value, () -> "value");
+        beforeEach(() -> {});
+        afterEach(() -> {});
+
+        describe("inner group", () -> {
+            beforeEach(() -> {});
+            afterEach(() -> {});
+
+            it("passing example", () -> {});
+        });
+    }}
+
+    private Example example;
+
+    @Setup
+    public void readSpec() {
+        example = J8Spec.read(PassingSpec.class).get(0);
+    }
+
+    @Benchmark
+    public void try_to_execute() throws Throwable {
+        example.tryToExecute();
+    }
+}
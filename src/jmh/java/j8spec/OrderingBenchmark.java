@@ -0,0 +1,53 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the ordered list of examples from the block definitions of a spec, in the order they are
+ * defined and in random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class OrderingBenchmark {
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"3"})
+    public int depth;
+
+    @Param({"defined", "random"})
+    public String order;
+
+    private ExampleGroupDefinition definition;
+
+    @Setup
+    public void define() {
+        SyntheticSpec.shape(width, depth);
+        definition = J8Spec.define("defined".equals(order) ? SyntheticSpec.InDefinedOrder.class : SyntheticSpec.class);
+    }
+
+    @Benchmark
+    public List<Example> order_examples() {
+        ExampleBuilder builder = new ExampleBuilder(BlockExecutionStrategy.BLACK_LIST);
+        definition.accept(builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,45 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link J8Spec#read(Class)} on specs from about a hundred to about a million examples (width 10 and depth
+ * 5), covering the spec definition and all the passes over it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ReadBenchmark {
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"1", "3", "5"})
+    public int depth;
+
+    @Setup
+    public void defineShape() {
+        SyntheticSpec.shape(width, depth);
+    }
+
+    @Benchmark
+    public List<Example> read() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+}
@@ -0,0 +1,64 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Measures the heap retained by the examples of a large spec (about 100k examples with the default parameters),
+ * reported by the <code>retainedBytes</code> counter. JMH sums auxiliary counters over the measurement iterations,
+ * so only one is used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RetainedHeapBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long retainedBytes;
+    }
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"4"})
+    public int depth;
+
+    @Setup(Level.Trial)
+    public void defineShape() {
+        SyntheticSpec.shape(width, depth);
+    }
+
+    @Benchmark
+    public List<Example> read_large_spec(Heap heap) {
+        long before = usedHeap();
+        List<Example> examples = J8Spec.read(SyntheticSpec.class);
+        heap.retainedBytes = usedHeap() - before;
+        return examples;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,49 @@
+package j8spec;
+
+import j8spec.junit.J8SpecRunner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures running a spec end to end with {@link J8SpecRunner}, from reading the spec to notifying the result of
+ * every example, with examples and hooks that do nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RunnerBenchmark {
+
+    @Param({"10"})
+    public int width;
+
+    @Param({"1", "3"})
+    public int depth;
+
+    @Setup
+    public void defineShape() {
+        SyntheticSpec.shape(width, depth);
+    }
+
+    @Benchmark
+    public RunNotifier run() throws InitializationError {
+        RunNotifier notifier = new RunNotifier();
+        new J8SpecRunner(SyntheticSpec.class).run(notifier);
+        return notifier;
+    }
+}
@@ -0,0 +1,65 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.afterEach;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.UnsafeBlock.NOOP;
+
+/**
+ * Spec with a configurable shape: every group has one hook of each kind, <code>width</code> examples and, up to
+ * the given <code>depth</code>, <code>width</code> nested groups.
+ */
+public class SyntheticSpec {
+
+    /**
+     * Same shape, examples kept in the order they are defined.
+     */
+    @DefinedOrder
+    public static class InDefinedOrder extends SyntheticSpec {}
+
+    private static final UnsafeBlock PASSING = () -> {};
+
+    private static volatile int width = 10;
+    private static volatile int depth = 2;
+
+    static void shape(int width, int depth) {
+        SyntheticSpec.width = width;
+        SyntheticSpec.depth = depth;
+    }
+
+    static int size() {
+        int size = 0;
+        int groups = 1;
+        for (int level = 0; level <= depth; level++) {
+            size += groups * width;
+            groups *= width;
+        }
+        return size;
+    }
+
+    public SyntheticSpec() {
+        define(width, depth);
+    }
+
+    private static void define(int width, int level) {
+        beforeAll(NOOP);
+        beforeEach(NOOP);
+        afterEach(NOOP);
+        afterAll(NOOP);
+
+        for (int i = 0; i < width; i++) {
+            it("example " + i, PASSING);
+        }
+
+        if (level > 0) {
+            for (int i = 0; i < width; i++) {
+                describe("group " + i, () -> define(width, level - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package j8spec;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Block of code that starts an asynchronous operation and returns without waiting for it to complete.
+ *
+ * @see j8spec.UnsafeBlock
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface AsyncBlock {
+
+    /**
+     * Try to start the block of code.
+     *
+     * @return stage completed when the block of code has finished
+     * @throws Throwable if unable to start the block of code
+     */
+    CompletionStage<?> tryToStart() throws Throwable;
+}
@@ -0,0 +1,38 @@
+package j8spec;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Lets an {@link AsyncBlock} be stored as a hook or example block. Executing it blocks until the stage completes,
+ * starting it does not.
+ */
+final class AsyncBlockAdapter implements UnsafeBlock {
+
+    private final AsyncBlock block;
+
+    AsyncBlockAdapter(AsyncBlock block) {
+        this.block = block;
+    }
+
+    CompletionStage<?> start() throws Throwable {
+        return block.tryToStart();
+    }
+
+    @Override
+    public void tryToExecute() throws Throwable {
+        try {
+            block.tryToStart().toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+}
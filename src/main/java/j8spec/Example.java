@@ -1,11 +1,18 @@
 package j8spec;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
+import static j8spec.TimingListener.Phase.BLOCK;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * Example ready to be executed.
@@ -13,25 +20,22 @@ import static java.util.Collections.unmodifiableList;
  */
 public final class Example implements UnsafeBlock, Comparable<Example> {
 
-    private static final Predicate<UnsafeBlock> ALL = whatever -> true;
-
     static final class Builder {
 
-        private List<String> containerDescriptions = emptyList();
+        private ExampleGroup group;
         private String description;
-        private List<VarInitializer<?>> varInitializers = emptyList();
-        private List<UnsafeBlock> beforeAllHooks = emptyList();
-        private List<UnsafeBlock> beforeEachHooks = emptyList();
-        private List<UnsafeBlock> afterEachHooks = emptyList();
-        private List<UnsafeBlock> afterAllHooks = emptyList();
         private UnsafeBlock block;
+        private boolean ignored;
         private Class<? extends Throwable> expectedException;
         private long timeout;
         private TimeUnit timeoutUnit;
-        private Rank rank;
+        private boolean parallel;
+        private int threads = 1;
+        private int iterations = 1;
+        private int retries = -1;
 
-        Builder containerDescriptions(List<String> containerDescriptions) {
-            this.containerDescriptions = containerDescriptions;
+        Builder group(ExampleGroup group) {
+            this.group = group;
             return this;
         }
 
@@ -40,31 +44,6 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
-        Builder varInitializers(List<VarInitializer<?>> varInitializers) {
-            this.varInitializers = varInitializers;
-            return this;
-        }
-
-        Builder beforeAllHooks(List<UnsafeBlock> beforeAllHooks) {
-            this.beforeAllHooks = beforeAllHooks;
-            return this;
-        }
-
-        Builder beforeEachHooks(List<UnsafeBlock> beforeHooks) {
-            this.beforeEachHooks = beforeHooks;
-            return this;
-        }
-
-        Builder afterEachHooks(List<UnsafeBlock> afterHooks) {
-            this.afterEachHooks = afterHooks;
-            return this;
-        }
-
-        Builder afterAllHooks(List<UnsafeBlock> afterAllHooks) {
-            this.afterAllHooks = afterAllHooks;
-            return this;
-        }
-
         Builder block(UnsafeBlock block) {
             this.block = block;
             return this;
@@ -75,13 +54,9 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
-        Builder rank(Rank rank) {
-            this.rank = rank;
-            return this;
-        }
-
         Builder ignored() {
             this.block = NOOP;
+            this.ignored = true;
             return this;
         }
 
@@ -91,75 +66,118 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
+        Builder parallel() {
+            this.parallel = true;
+            return this;
+        }
+
+        Builder concurrently(int threads, int iterations) {
+            this.threads = threads;
+            this.iterations = iterations;
+            return this;
+        }
+
+        Builder retries(int retries) {
+            this.retries = retries;
+            return this;
+        }
+
         Example build() {
             return new Example(
-                containerDescriptions,
+                group,
                 description,
-                varInitializers,
-                beforeAllHooks,
-                beforeEachHooks,
-                afterEachHooks,
-                afterAllHooks,
                 block,
+                ignored,
                 expectedException,
                 timeout,
                 timeoutUnit,
-                rank
+                parallel,
+                threads,
+                iterations,
+                retries
             );
         }
     }
 
-    private final List<String> containerDescriptions;
+    private final ExampleGroup group;
     private final String description;
-    private final List<VarInitializer<?>> varInitializers;
-    private final List<UnsafeBlock> beforeAllHooks;
-    private final List<UnsafeBlock> beforeEachHooks;
-    private final List<UnsafeBlock> afterEachHooks;
-    private final List<UnsafeBlock> afterAllHooks;
     private final UnsafeBlock block;
+    private final boolean ignored;
     private final Class<? extends Throwable> expectedException;
     private final long timeout;
     private final TimeUnit timeoutUnit;
-    private final Rank rank;
-
-    private Example previous;
-    private Example next;
-    private boolean beforeAllHookFailed = false;
+    private final boolean parallel;
+    private final int threads;
+    private final int iterations;
+    private final int retries;
+
+    private int position;
+    private boolean skipped;
+    private TimingListener timingListener;
+    private volatile AsyncRun asyncRun;
+    private Exceptions.PassedOnRetry passedOnRetry;
+    private final Lock blockLock = new ReentrantLock();
+    private Thread blockThread;
+    private volatile boolean blockInterrupted;
 
     private Example(
-        List<String> containerDescriptions,
+        ExampleGroup group,
         String description,
-        List<VarInitializer<?>> varInitializers,
-        List<UnsafeBlock> beforeAllHooks,
-        List<UnsafeBlock> beforeEachHooks,
-        List<UnsafeBlock> afterEachHooks,
-        List<UnsafeBlock> afterAllHooks,
         UnsafeBlock block,
+        boolean ignored,
         Class<? extends Throwable> expectedException,
         long timeout,
         TimeUnit timeoutUnit,
-        Rank rank
+        boolean parallel,
+        int threads,
+        int iterations,
+        int retries
     ) {
-        this.containerDescriptions = unmodifiableList(containerDescriptions);
+        this.group = group;
         this.description = description;
-        this.varInitializers = unmodifiableList(varInitializers);
-        this.beforeAllHooks = unmodifiableList(beforeAllHooks);
-        this.beforeEachHooks = unmodifiableList(beforeEachHooks);
-        this.afterEachHooks = unmodifiableList(afterEachHooks);
-        this.afterAllHooks = unmodifiableList(afterAllHooks);
         this.block = block;
+        this.ignored = ignored;
         this.expectedException = expectedException;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
-        this.rank = rank;
+        this.parallel = parallel;
+        this.threads = threads;
+        this.iterations = iterations;
+        this.retries = retries;
+
+        if (!ignored) {
+            group.addPendingExample();
+        }
+    }
+
+    Example copy(Map<ExampleGroup, ExampleGroup> groupCopies) {
+        return new Example(
+            group.copy(groupCopies),
+            description,
+            block,
+            ignored,
+            expectedException,
+            timeout,
+            timeoutUnit,
+            parallel,
+            threads,
+            iterations,
+            retries
+        );
     }
 
-    void previous(Example example) { previous = example; }
+    ExampleGroup group() { return group; }
 
-    void next(Example example) { next = example; }
+    void position(int position) { this.position = position; }
+
+    void timingListener(TimingListener timingListener) { this.timingListener = timingListener; }
+
+    void phaseFinished(TimingListener.Phase phase, List<String> groupDescriptions, long nanos) {
+        timingListener.phaseFinished(this, phase, groupDescriptions, nanos);
+    }
 
     @Override
-    public int compareTo(Example block) { return rank.compareTo(block.rank); }
+    public int compareTo(Example block) { return Integer.compare(position, block.position); }
 
     /**
      * Runs this example and associated hooks.
@@ -167,40 +185,331 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      */
     @Override
     public void tryToExecute() throws Throwable {
-        Exceptions.Collector collector = new Exceptions.Collector();
+        if (ignored || skipped || group.hasAnyBeforeAllHookFailed()) {
+            return;
+        }
+
+        Exceptions.Collector failures = null;
+        Example timed = timingListener == null ? null : this;
+        ExampleScope.startExample();
+        try {
+            failures = group.initializeVars(failures, timed);
+            if (failures == null) {
+                ExampleScope.shareWrites(true);
+                failures = group.enter(failures, timed);
+                ExampleScope.shareWrites(false);
+                if (failures == null && group.hasAnyBeforeAllHookFailed()) {
+                    return;
+                }
+            }
+
+            if (failures == null) {
+                failures = executeEach(timed);
+                if (failures != null && expectedException == null) {
+                    failures = retry(failures, timed);
+                }
+            }
+
+            ExampleScope.shareWrites(true);
+            failures = group.leave(failures, timed);
+        } finally {
+            ExampleScope.shareWrites(false);
+            ExampleScope.endExample();
+        }
+        Exceptions.Collector.haltOnFailure(failures);
+    }
+
+    private Exceptions.Collector executeEach(Example timed) {
+        return threads == 1 && iterations == 1 ? executeOnce(timed, null, 0) : executeStress(timed);
+    }
+
+    private Exceptions.Collector retry(Exceptions.Collector failures, Example timed) {
+        int attempts = ExampleRetries.retries(retries) + 1;
+        Exceptions.Collector attemptFailures = failures;
+
+        for (int attempt = 2; attempt <= attempts; attempt++) {
+            if (blockInterrupted || Thread.currentThread().isInterrupted() || !ExampleRetries.tryToSpend()) {
+                break;
+            }
+            ExampleRetries.attemptFailed(this, attempt - 1, attempts, attemptFailures.failure());
+
+            ExampleScope.startExample();
+            attemptFailures = group.initializeVars(null, timed);
+            if (attemptFailures == null) {
+                attemptFailures = executeEach(timed);
+            }
+            if (attemptFailures == null) {
+                ExampleRetries.passed(this, attempt, attempts);
+                passedOnRetry = new Exceptions.PassedOnRetry(attempt, attempts, failures.failure());
+                return null;
+            }
+            failures = Exceptions.Collector.addAll(failures, attemptFailures);
+        }
+        return failures;
+    }
+
+    private Exceptions.Collector executeOnce(Example timed, ExampleStress stress, int iteration) {
+        Exceptions.Collector failures = group.beforeEach(null, timed);
+        if (failures == null) {
+            failures = executeBlock(timed, stress, iteration);
+            failures = group.afterEach(failures, timed);
+        }
+        return failures;
+    }
+
+    private Exceptions.Collector executeStress(Example timed) {
+        ExampleStress stress = new ExampleStress(
+            description,
+            threads,
+            iterations,
+            timeoutUnit == null ? 0 : timeoutUnit.toNanos(timeout)
+        );
+        if (threads > 1) {
+            Exceptions.Collector failures = executeOnce(timed, stress, 0);
+            stress.report();
+            return failures;
+        }
+
+        Exceptions.Collector failures = null;
+        for (int i = 0; i < iterations; i++) {
+            Exceptions.Collector iterationFailures = null;
+            if (i > 0) {
+                ExampleScope.startExample();
+                iterationFailures = group.initializeVars(null, timed);
+            }
+            if (iterationFailures == null) {
+                iterationFailures = executeOnce(timed, stress, i);
+            }
+            failures = Exceptions.Collector.addAll(failures, iterationFailures);
+        }
+        stress.report();
+        return failures;
+    }
 
-        varInitializers.forEach(collector::executeOrSkip);
-        collector.haltOnFailure();
+    private Exceptions.Collector executeBlock(Example timed, ExampleStress stress, int iteration) {
+        long start = timed == null ? 0 : System.nanoTime();
+
+        Exceptions.Collector failures;
+        blockStarted();
+        try {
+            if (stress == null) {
+                failures = Exceptions.Collector.execute(null, block);
+            } else if (threads > 1) {
+                failures = stress.executeConcurrently(block);
+            } else {
+                failures = stress.execute(null, block, iteration);
+            }
+        } finally {
+            blockFinished();
+        }
 
-        beforeAllHooks.stream().filter(firstChance()).forEach(collector::executeOrSkip);
-        beforeAllHookFailed = !collector.isEmpty();
-        collector.haltOnFailure();
+        if (timed != null) {
+            phaseFinished(BLOCK, group.descriptions(), System.nanoTime() - start);
+        }
+        return failures;
+    }
 
-        beforeEachHooks.forEach(collector::executeOrSkip);
-        collector.haltOnFailure();
+    private void blockStarted() {
+        blockLock.lock();
+        try {
+            blockThread = Thread.currentThread();
+            if (blockInterrupted) {
+                blockThread.interrupt();
+            }
+        } finally {
+            blockLock.unlock();
+        }
+    }
 
-        collector.execute(block);
-        afterEachHooks.forEach(collector::execute);
-        afterAllHooks.stream().filter(lastChance()).forEach(collector::execute);
-        collector.haltOnFailure();
+    private void blockFinished() {
+        blockLock.lock();
+        try {
+            blockThread = null;
+            if (blockInterrupted) {
+                Thread.interrupted();
+            }
+        } finally {
+            blockLock.unlock();
+        }
     }
 
-    private Predicate<UnsafeBlock> firstChance() {
-        return previous == null ? ALL : hook -> !previous.hasBeforeAllHook(hook);
+    /**
+     * Interrupts the thread running the block of this example, now if the block is running or as soon as it starts,
+     * and stops retrying it. Hooks are not interrupted: the interrupt is cleared once the block finishes, so the after
+     * each and after all hooks still run.
+     * @since 3.1.0
+     */
+    public void interruptBlock() {
+        blockLock.lock();
+        try {
+            blockInterrupted = true;
+            if (blockThread != null) {
+                blockThread.interrupt();
+            }
+        } finally {
+            blockLock.unlock();
+        }
     }
 
-    private Predicate<UnsafeBlock> lastChance() {
-        return next == null ? ALL : hook -> !next.hasAfterAllHook(hook);
+    /**
+     * Starts this example and associated hooks without waiting for asynchronous blocks and hooks to complete.
+     * Before all hooks and synchronous before each hooks run on the calling thread. Each started example keeps its
+     * own values of {@link Var} objects, read and written by its hooks and block while they are being called.
+     *
+     * @return stage completed when the example and its hooks have finished, completed exceptionally if any of them
+     * failed
+     * @see #isAsync()
+     * @see #abandon(Throwable)
+     * @since 3.1.0
+     */
+    public CompletionStage<Void> start() {
+        if (ignored || skipped || group.hasAnyBeforeAllHookFailed()) {
+            return completedFuture(null);
+        }
+
+        AsyncRun run = new AsyncRun();
+        asyncRun = run;
+        return run.start();
     }
 
-    private boolean hasBeforeAllHook(UnsafeBlock hook) {
-        return beforeAllHooks.contains(hook) || previous != null && previous.hasBeforeAllHook(hook);
+    /**
+     * Stops waiting for a started example, usually because it took too long: its example groups no longer wait for
+     * it, running the after all hooks of the groups left with no examples to run, and the stage returned by
+     * {@link #start()} completes exceptionally with the given cause and any after all hook failure. Does nothing if
+     * the example has already finished.
+     *
+     * @param cause reason the example failed
+     * @since 3.1.0
+     */
+    public void abandon(Throwable cause) {
+        AsyncRun run = asyncRun;
+        if (run != null) {
+            run.abandon(cause);
+        }
     }
 
-    private boolean hasAfterAllHook(UnsafeBlock hook) {
-        return afterAllHooks.contains(hook) || next != null && next.hasAfterAllHook(hook);
+    private final class AsyncRun {
+
+        private final ExampleScope scope = new ExampleScope();
+        private final Exceptions.Collector collector = new Exceptions.Collector();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicBoolean left = new AtomicBoolean();
+
+        CompletionStage<Void> start() {
+            ExampleScope previous = ExampleScopeLookup.borrow(scope);
+            try {
+                ExampleScope.startExample();
+                group.initializeVars(collector, null);
+                if (collector.isEmpty()) {
+                    ExampleScope.shareWrites(true);
+                    group.enter(collector, null);
+                    ExampleScope.shareWrites(false);
+                    if (collector.isEmpty() && group.hasAnyBeforeAllHookFailed()) {
+                        left.set(true);
+                        return completedFuture(null);
+                    }
+                }
+            } finally {
+                ExampleScopeLookup.giveBack(previous);
+            }
+
+            List<UnsafeBlock> beforeEachHooks = new ArrayList<>();
+            group.collectBeforeEachHooks(beforeEachHooks);
+
+            CompletionStage<Void> stage = completedFuture(null);
+            for (UnsafeBlock hook : beforeEachHooks) {
+                stage = stage.thenCompose(nothing -> inScope(() -> collector.executeOrSkipAsync(hook)));
+            }
+            stage = stage.thenCompose(nothing -> collector.isEmpty() ? startBlock() : completedFuture(null));
+            stage.whenComplete((nothing, cause) -> leave());
+            return result;
+        }
+
+        private CompletionStage<Void> startBlock() {
+            List<UnsafeBlock> afterEachHooks = new ArrayList<>();
+            group.collectAfterEachHooks(afterEachHooks);
+
+            CompletionStage<Void> stage = inScope(() -> collector.executeAsync(block));
+            for (UnsafeBlock hook : afterEachHooks) {
+                stage = stage.thenCompose(nothing -> inScope(() -> collector.executeAsync(hook)));
+            }
+            return stage;
+        }
+
+        private CompletionStage<Void> inScope(Supplier<CompletionStage<Void>> step) {
+            ExampleScope previous = ExampleScopeLookup.borrow(scope);
+            try {
+                return step.get();
+            } finally {
+                ExampleScopeLookup.giveBack(previous);
+            }
+        }
+
+        private void leave() {
+            if (!left.compareAndSet(false, true)) {
+                return;
+            }
+
+            ExampleScope previous = ExampleScopeLookup.borrow(scope);
+            try {
+                ExampleScope.shareWrites(true);
+                group.leave(collector, null);
+            } finally {
+                ExampleScope.endExample();
+                ExampleScopeLookup.giveBack(previous);
+            }
+
+            if (collector.isEmpty()) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(collector.failure());
+            }
+        }
+
+        void abandon(Throwable cause) {
+            if (!left.compareAndSet(false, true)) {
+                return;
+            }
+
+            Exceptions.Collector failures = group.leave(Exceptions.Collector.add(null, cause), null);
+            result.completeExceptionally(failures.failure());
+        }
     }
 
+    /**
+     * Excludes this example from the run, so its example groups do not wait for it before running their after all
+     * hooks. Should be called before the examples start running.
+     * @since 3.1.0
+     */
+    public void skip() {
+        if (!ignored && !skipped) {
+            skipped = true;
+            group.removePendingExample();
+        }
+    }
+
+    /**
+     * Excludes this example from a run that has already started, running the after all hooks of the example groups
+     * left with no examples to run.
+     * @throws Throwable if any after all hook fails
+     * @since 3.1.0
+     */
+    public void tryToSkip() throws Throwable {
+        if (ignored || skipped || group.hasAnyBeforeAllHookFailed()) {
+            return;
+        }
+
+        skipped = true;
+        Exceptions.Collector.haltOnFailure(group.leave(null, null));
+    }
+
+    /**
+     * @return failures of the attempts that failed before this example passed when retried, <code>null</code> if the
+     * example was not retried or did not pass
+     * @since 3.1.0
+     */
+    public Exceptions.PassedOnRetry passedOnRetry() { return passedOnRetry; }
+
     /**
      * @return textual description
      * @since 2.0.0
@@ -211,17 +520,13 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      * @return textual description of all outer example groups
      * @since 2.0.0
      */
-    public List<String> containerDescriptions() { return containerDescriptions; }
+    public List<String> containerDescriptions() { return group.descriptions(); }
 
     /**
      * @return <code>true</code> if this example should be ignored, <code>false</code> otherwise
      * @since 2.0.0
      */
-    public boolean shouldBeIgnored() { return block == NOOP || hasAnyBeforeAllHookFailed(); }
-
-    private boolean hasAnyBeforeAllHookFailed() {
-        return beforeAllHookFailed || previous != null && previous.hasAnyBeforeAllHookFailed();
-    }
+    public boolean shouldBeIgnored() { return block == NOOP || group.hasAnyBeforeAllHookFailed(); }
 
     /**
      * @return exception class this example is expected to throw, <code>null</code> otherwise
@@ -257,4 +562,18 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      * @since 3.0.0
      */
     public TimeUnit timeoutUnit() { return timeoutUnit; }
+
+    /**
+     * @return <code>true</code> if this example can be executed in parallel with other examples,
+     * <code>false</code> otherwise
+     * @since 3.1.0
+     */
+    public boolean shouldRunInParallel() { return parallel; }
+
+    /**
+     * @return <code>true</code> if this example or any of its before each and after each hooks is asynchronous and
+     * should be run with {@link #start()}, <code>false</code> otherwise
+     * @since 3.1.0
+     */
+    public boolean isAsync() { return block instanceof AsyncBlockAdapter || group.hasAsyncEachHooks(); }
 }
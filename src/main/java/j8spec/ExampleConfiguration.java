@@ -21,6 +21,9 @@ public final class ExampleConfiguration {
         private Class<? extends Throwable> expectedException;
         private int timeout;
         private TimeUnit timeoutUnit;
+        private int threads = 1;
+        private int iterations = 1;
+        private int retries = -1;
 
         Builder description(String description) {
             this.description = description;
@@ -53,6 +56,59 @@ public final class ExampleConfiguration {
             return this;
         }
 
+        /**
+         * Runs the new example the given number of times, each time with its variables initialized again and its own
+         * before each and after each hooks. Failures of all runs are reported together and the throughput and latency
+         * of the example block are logged. Not supported by asynchronous examples.
+         *
+         * @param times number of times to run the example
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder repeat(int times) {
+            return concurrently(1, times);
+        }
+
+        /**
+         * Runs the block of the new example on the given number of threads, started together, each one running the
+         * block the given number of times. Before each and after each hooks run once, before and after all threads.
+         * Each thread keeps its own values of variables, starting from the values set before the threads start.
+         * Threads wait for each other to start for no longer than the timeout of the example, if any. Failures of all
+         * runs are reported together and the throughput and latency of the example block are logged. Not supported by
+         * asynchronous examples.
+         *
+         * @param threads number of threads to run the block on
+         * @param iterations number of times each thread runs the block
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder concurrently(int threads, int iterations) {
+            if (threads < 1 || iterations < 1) {
+                throw new IllegalArgumentException("threads and iterations must be positive");
+            }
+            this.threads = threads;
+            this.iterations = iterations;
+            return this;
+        }
+
+        /**
+         * Runs the new example again when it fails, with its variables and before each and after each hooks, up to the
+         * given number of times. Every failed attempt is reported. Overrides the number of retries set by the system
+         * property <code>j8spec.retries</code>. Examples expecting an exception and asynchronous examples are not
+         * retried.
+         *
+         * @param times maximum number of times to retry the new example
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder retry(int times) {
+            if (times < 0) {
+                throw new IllegalArgumentException("times must not be negative");
+            }
+            this.retries = times;
+            return this;
+        }
+
         Builder executionFlag(BlockExecutionFlag executionFlag) {
             this.executionFlag = executionFlag;
             return this;
@@ -64,7 +120,10 @@ public final class ExampleConfiguration {
                 executionFlag,
                 expectedException,
                 timeout,
-                timeoutUnit
+                timeoutUnit,
+                threads,
+                iterations,
+                retries
             );
         }
     }
@@ -74,19 +133,28 @@ public final class ExampleConfiguration {
     private final Class<? extends Throwable> expectedException;
     private final long timeout;
     private final TimeUnit timeoutUnit;
+    private final int threads;
+    private final int iterations;
+    private final int retries;
 
     private ExampleConfiguration(
         String description,
         BlockExecutionFlag executionFlag,
         Class<? extends Throwable> expectedException,
         long timeout,
-        TimeUnit timeoutUnit
+        TimeUnit timeoutUnit,
+        int threads,
+        int iterations,
+        int retries
     ) {
         this.description = description;
         this.executionFlag = executionFlag;
         this.expectedException = expectedException;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
+        this.threads = threads;
+        this.iterations = iterations;
+        this.retries = retries;
     }
 
     String description() {
@@ -108,4 +176,16 @@ public final class ExampleConfiguration {
     TimeUnit timeoutUnit() {
         return timeoutUnit;
     }
+
+    int threads() {
+        return threads;
+    }
+
+    int iterations() {
+        return iterations;
+    }
+
+    int retries() {
+        return retries;
+    }
 }
@@ -0,0 +1,256 @@
+package j8spec;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static j8spec.TimingListener.Phase.AFTER_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_ALL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Durations of examples, without before all and after all hooks, and of the before all and after all hooks of each
+ * example group, kept in the file named by the system property <code>j8spec.durations.file</code>,
+ * <code>build/j8spec-durations.txt</code> by default. The durations of before all and after all hooks are kept apart,
+ * so the file also tells which example groups have before all hooks.
+ *
+ * <p>
+ *     Setting the system property <code>j8spec.durations.record</code> to <code>true</code> records the durations of
+ *     the examples run and updates the file at the end of the run. The durations measured by the JVM are merged into
+ *     the current contents of the file while holding a lock on it, so JVMs running specs at the same time keep the
+ *     durations measured by each other.
+ * </p>
+ */
+final class ExampleDurations implements TimingListener {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleDurations");
+
+    private static final String EXAMPLE = "example";
+    private static final String BEFORE_ALL_HOOKS = "before-all";
+    private static final String AFTER_ALL_HOOKS = "after-all";
+
+    private static final Lock LOCK = new ReentrantLock();
+
+    private static ExampleDurations recorder;
+
+    private final Path file;
+    private final Lock recording = new ReentrantLock();
+    private final Map<List<String>, Long> examples = new HashMap<>();
+    private final Map<List<String>, Long> beforeAllHooks = new HashMap<>();
+    private final Map<List<String>, Long> afterAllHooks = new HashMap<>();
+    private final Set<List<String>> measuredExamples = new HashSet<>();
+    private final Set<List<String>> measuredBeforeAllHooks = new HashSet<>();
+    private final Set<List<String>> measuredAfterAllHooks = new HashSet<>();
+
+    private ExampleDurations(Path file) {
+        this.file = file;
+    }
+
+    static Path file() {
+        return Paths.get(System.getProperty("j8spec.durations.file", "build/j8spec-durations.txt"));
+    }
+
+    static ExampleDurations read() {
+        ExampleDurations durations = new ExampleDurations(file());
+        durations.load();
+        return durations;
+    }
+
+    static TimingListener recorder() {
+        if (!Boolean.valueOf(System.getProperty("j8spec.durations.record", "false"))) {
+            return null;
+        }
+
+        LOCK.lock();
+        try {
+            if (recorder == null) {
+                recorder = read();
+                Runtime.getRuntime().addShutdownHook(new Thread(recorder::save, "j8spec-durations"));
+            }
+            return recorder;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    static List<String> path(Example example) {
+        List<String> path = new ArrayList<>(example.containerDescriptions());
+        path.add(example.description());
+        return unmodifiableList(path);
+    }
+
+    Long example(List<String> path) {
+        recording.lock();
+        try {
+            return examples.get(path);
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    Long group(List<String> descriptions) {
+        recording.lock();
+        try {
+            Long beforeAll = beforeAllHooks.get(descriptions);
+            Long afterAll = afterAllHooks.get(descriptions);
+            if (beforeAll == null) {
+                return afterAll;
+            }
+            return afterAll == null ? beforeAll : beforeAll + afterAll;
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    boolean hasBeforeAllHooks(List<String> descriptions) {
+        recording.lock();
+        try {
+            return beforeAllHooks.containsKey(descriptions);
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    Set<List<String>> examples() {
+        recording.lock();
+        try {
+            return new HashSet<>(examples.keySet());
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    @Override
+    public void phaseFinished(Example example, Phase phase, List<String> groupDescriptions, long nanos) {
+        recording.lock();
+        try {
+            if (phase == BEFORE_ALL) {
+                add(beforeAllHooks, measuredBeforeAllHooks, groupDescriptions, nanos);
+            } else if (phase == AFTER_ALL) {
+                add(afterAllHooks, measuredAfterAllHooks, groupDescriptions, nanos);
+            } else {
+                add(examples, measuredExamples, path(example), nanos);
+            }
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    private static void add(
+        Map<List<String>, Long> durations,
+        Set<List<String>> measured,
+        List<String> path,
+        long nanos
+    ) {
+        if (measured.add(path)) {
+            durations.put(path, nanos);
+        } else {
+            durations.merge(path, nanos, Long::sum);
+        }
+    }
+
+    private void load() {
+        read(file, examples, beforeAllHooks, afterAllHooks);
+    }
+
+    private static void read(
+        Path file,
+        Map<List<String>, Long> examples,
+        Map<List<String>, Long> beforeAllHooks,
+        Map<List<String>, Long> afterAllHooks
+    ) {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try {
+            for (String line : Files.readAllLines(file, UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length < 3) {
+                    continue;
+                }
+                List<String> path = unmodifiableList(Arrays.asList(fields).subList(2, fields.length));
+                if (EXAMPLE.equals(fields[0])) {
+                    examples.put(path, Long.parseLong(fields[1]));
+                } else if (BEFORE_ALL_HOOKS.equals(fields[0])) {
+                    beforeAllHooks.put(path, Long.parseLong(fields[1]));
+                } else if (AFTER_ALL_HOOKS.equals(fields[0])) {
+                    afterAllHooks.put(path, Long.parseLong(fields[1]));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.log(Level.WARNING, "failed to read example durations from " + file, e);
+        }
+    }
+
+    void save() {
+        recording.lock();
+        try {
+            if (measuredExamples.isEmpty() && measuredBeforeAllHooks.isEmpty() && measuredAfterAllHooks.isEmpty()) {
+                return;
+            }
+
+            Path absolute = file.toAbsolutePath();
+            Path directory = absolute.getParent();
+            Files.createDirectories(directory);
+            Path lockFile = directory.resolve(absolute.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE); FileLock ignored = channel.lock()) {
+                Map<List<String>, Long> mergedExamples = new HashMap<>();
+                Map<List<String>, Long> mergedBeforeAllHooks = new HashMap<>();
+                Map<List<String>, Long> mergedAfterAllHooks = new HashMap<>();
+                read(absolute, mergedExamples, mergedBeforeAllHooks, mergedAfterAllHooks);
+                merge(mergedExamples, examples, measuredExamples);
+                merge(mergedBeforeAllHooks, beforeAllHooks, measuredBeforeAllHooks);
+                merge(mergedAfterAllHooks, afterAllHooks, measuredAfterAllHooks);
+
+                Path temporary = Files.createTempFile(directory, "j8spec-durations", ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temporary, UTF_8)) {
+                    write(writer, EXAMPLE, mergedExamples);
+                    write(writer, BEFORE_ALL_HOOKS, mergedBeforeAllHooks);
+                    write(writer, AFTER_ALL_HOOKS, mergedAfterAllHooks);
+                }
+                Files.move(temporary, absolute, REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "failed to write example durations to " + file, e);
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    private static void merge(
+        Map<List<String>, Long> merged,
+        Map<List<String>, Long> durations,
+        Set<List<String>> measured
+    ) {
+        for (List<String> path : measured) {
+            merged.put(path, durations.get(path));
+        }
+    }
+
+    private static void write(Writer writer, String kind, Map<List<String>, Long> durations) throws IOException {
+        for (Map.Entry<List<String>, Long> duration : durations.entrySet()) {
+            writer.write(kind + "\t" + duration.getValue() + "\t" + String.join("\t", duration.getKey()) + "\n");
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static j8spec.TimingListener.Phase.AFTER_ALL;
+import static j8spec.TimingListener.Phase.AFTER_EACH;
+import static j8spec.TimingListener.Phase.BEFORE_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_EACH;
+import static j8spec.TimingListener.Phase.LET;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Example group ready to be executed, shared by all examples defined in the group. Hooks and variable initializers
+ * are stored only in the group where they were defined and reached by the inner groups through the parent link.
+ * <p>
+ * Each group counts the examples of its own and inner groups still to be run. The group is entered, running its
+ * before all hooks, by the first example to run and left, running its after all hooks, by the last one, whatever
+ * order the examples are run in. Examples running in parallel wait for the before all hooks of their groups to finish.
+ * The after all hooks of a group whose before all hooks failed are not run.
+ */
+final class ExampleGroup {
+
+    private final ExampleGroup parent;
+    private final List<String> descriptions;
+    private final List<VarInitializer<?>> varInitializers;
+    private final List<UnsafeBlock> beforeAllHooks;
+    private final List<UnsafeBlock> beforeEachHooks;
+    private final List<UnsafeBlock> afterEachHooks;
+    private final List<UnsafeBlock> afterAllHooks;
+
+    private final AtomicInteger pendingExamples = new AtomicInteger();
+    private final Lock entering = new ReentrantLock();
+    private volatile boolean entered;
+    private volatile boolean beforeAllHookFailed;
+
+    ExampleGroup(ExampleGroup parent, String description) {
+        this(
+            parent,
+            descriptions(parent, description),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>()
+        );
+    }
+
+    private static List<String> descriptions(ExampleGroup parent, String description) {
+        if (parent == null) {
+            return singletonList(description);
+        }
+
+        List<String> descriptions = new ArrayList<>(parent.descriptions.size() + 1);
+        descriptions.addAll(parent.descriptions);
+        descriptions.add(description);
+        return unmodifiableList(descriptions);
+    }
+
+    private ExampleGroup(
+        ExampleGroup parent,
+        List<String> descriptions,
+        List<VarInitializer<?>> varInitializers,
+        List<UnsafeBlock> beforeAllHooks,
+        List<UnsafeBlock> beforeEachHooks,
+        List<UnsafeBlock> afterEachHooks,
+        List<UnsafeBlock> afterAllHooks
+    ) {
+        this.parent = parent;
+        this.descriptions = descriptions;
+        this.varInitializers = varInitializers;
+        this.beforeAllHooks = beforeAllHooks;
+        this.beforeEachHooks = beforeEachHooks;
+        this.afterEachHooks = afterEachHooks;
+        this.afterAllHooks = afterAllHooks;
+    }
+
+    ExampleGroup copy(Map<ExampleGroup, ExampleGroup> copies) {
+        ExampleGroup copy = copies.get(this);
+        if (copy == null) {
+            List<VarInitializer<?>> varInitializersCopy = new ArrayList<>(varInitializers.size());
+            for (VarInitializer<?> varInitializer : varInitializers) {
+                varInitializersCopy.add(varInitializer.copy());
+            }
+
+            copy = new ExampleGroup(
+                parent == null ? null : parent.copy(copies),
+                descriptions,
+                varInitializersCopy,
+                beforeAllHooks,
+                beforeEachHooks,
+                afterEachHooks,
+                afterAllHooks
+            );
+            copies.put(this, copy);
+        }
+        return copy;
+    }
+
+    ExampleGroup parent() { return parent; }
+
+    List<String> descriptions() { return descriptions; }
+
+    boolean isSameOrInside(ExampleGroup group) {
+        for (ExampleGroup current = this; current != null; current = current.parent) {
+            if (current == group) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void addVarInitializer(VarInitializer<?> varInitializer) { varInitializers.add(varInitializer); }
+
+    void addBeforeAllHook(UnsafeBlock hook) { beforeAllHooks.add(hook); }
+
+    void addBeforeEachHook(UnsafeBlock hook) { beforeEachHooks.add(hook); }
+
+    void addAfterEachHook(UnsafeBlock hook) { afterEachHooks.add(hook); }
+
+    void addAfterAllHook(UnsafeBlock hook) { afterAllHooks.add(hook); }
+
+    Exceptions.Collector initializeVars(Exceptions.Collector collector, Example timed) {
+        if (parent != null) {
+            collector = parent.initializeVars(collector, timed);
+        }
+        return executeAllOrSkip(collector, varInitializers, timed, LET);
+    }
+
+    void addPendingExample() {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            group.pendingExamples.incrementAndGet();
+        }
+    }
+
+    void removePendingExample() {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            group.removePendingExamples(1);
+        }
+    }
+
+    private int removePendingExamples(int examples) {
+        return pendingExamples.addAndGet(-examples);
+    }
+
+    boolean hasAnyBeforeAllHookFailed() {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            if (group.beforeAllHookFailed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Exceptions.Collector enter(Exceptions.Collector collector, Example timed) {
+        if (parent != null) {
+            collector = parent.enter(collector, timed);
+            if (parent.hasAnyBeforeAllHookFailed()) {
+                return collector;
+            }
+        }
+
+        if (!entered && Exceptions.Collector.isEmpty(collector)) {
+            collector = enterOnce(collector, timed);
+        }
+        return collector;
+    }
+
+    private Exceptions.Collector enterOnce(Exceptions.Collector collector, Example timed) {
+        entering.lock();
+        try {
+            if (entered) {
+                return collector;
+            }
+
+            collector = executeAllOrSkip(collector, beforeAllHooks, timed, BEFORE_ALL);
+
+            if (!Exceptions.Collector.isEmpty(collector)) {
+                beforeAllHookFailed = true;
+                releaseOtherPendingExamples();
+            }
+            entered = true;
+            return collector;
+        } finally {
+            entering.unlock();
+        }
+    }
+
+    private void releaseOtherPendingExamples() {
+        int others = pendingExamples.get() - 1;
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            group.removePendingExamples(others);
+        }
+    }
+
+    Exceptions.Collector beforeEach(Exceptions.Collector collector, Example timed) {
+        if (parent != null) {
+            collector = parent.beforeEach(collector, timed);
+        }
+        return executeAllOrSkip(collector, beforeEachHooks, timed, BEFORE_EACH);
+    }
+
+    void collectBeforeEachHooks(List<UnsafeBlock> hooks) {
+        if (parent != null) {
+            parent.collectBeforeEachHooks(hooks);
+        }
+        hooks.addAll(beforeEachHooks);
+    }
+
+    void collectAfterEachHooks(List<UnsafeBlock> hooks) {
+        hooks.addAll(afterEachHooks);
+        if (parent != null) {
+            parent.collectAfterEachHooks(hooks);
+        }
+    }
+
+    boolean hasBeforeAllHooks() { return !beforeAllHooks.isEmpty(); }
+
+    boolean hasAsyncEachHooks() {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            for (UnsafeBlock hook : group.beforeEachHooks) {
+                if (hook instanceof AsyncBlockAdapter) {
+                    return true;
+                }
+            }
+            for (UnsafeBlock hook : group.afterEachHooks) {
+                if (hook instanceof AsyncBlockAdapter) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    Exceptions.Collector afterEach(Exceptions.Collector collector, Example timed) {
+        collector = executeAll(collector, afterEachHooks, timed, AFTER_EACH);
+        if (parent != null) {
+            collector = parent.afterEach(collector, timed);
+        }
+        return collector;
+    }
+
+    Exceptions.Collector leave(Exceptions.Collector collector, Example timed) {
+        if (removePendingExamples(1) == 0 && entered && !beforeAllHookFailed) {
+            collector = executeAll(collector, afterAllHooks, timed, AFTER_ALL);
+        }
+
+        if (parent != null) {
+            collector = parent.leave(collector, timed);
+        }
+        return collector;
+    }
+
+    private Exceptions.Collector executeAll(
+        Exceptions.Collector collector,
+        List<? extends UnsafeBlock> blocks,
+        Example timed,
+        TimingListener.Phase phase
+    ) {
+        if (timed == null || blocks.isEmpty()) {
+            return Exceptions.Collector.executeAll(collector, blocks);
+        }
+
+        long start = System.nanoTime();
+        collector = Exceptions.Collector.executeAll(collector, blocks);
+        timed.phaseFinished(phase, descriptions, System.nanoTime() - start);
+        return collector;
+    }
+
+    private Exceptions.Collector executeAllOrSkip(
+        Exceptions.Collector collector,
+        List<? extends UnsafeBlock> blocks,
+        Example timed,
+        TimingListener.Phase phase
+    ) {
+        if (timed == null || blocks.isEmpty() || !Exceptions.Collector.isEmpty(collector)) {
+            return Exceptions.Collector.executeAllOrSkip(collector, blocks);
+        }
+
+        long start = System.nanoTime();
+        collector = Exceptions.Collector.executeAllOrSkip(collector, blocks);
+        timed.phaseFinished(phase, descriptions, System.nanoTime() - start);
+        return collector;
+    }
+}
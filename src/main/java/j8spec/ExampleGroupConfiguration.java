@@ -9,11 +9,16 @@ import static j8spec.BlockExecutionOrder.RANDOM;
  */
 public final class ExampleGroupConfiguration {
 
-    static final class Builder {
+    /**
+     * Example group configuration builder.
+     * @since 3.1.0
+     */
+    public static final class Builder {
         private String description;
         private BlockExecutionFlag executionFlag = BlockExecutionFlag.DEFAULT;
         private BlockExecutionOrder executionOrder = BlockExecutionOrder.DEFAULT;
         private Long seed;
+        private boolean parallel;
 
         Builder description(String description) {
             this.description = description;
@@ -44,12 +49,26 @@ public final class ExampleGroupConfiguration {
             return this;
         }
 
+        /**
+         * Runs the examples of the new example group, including the ones in inner example groups, in parallel, like
+         * the examples of a spec annotated with {@link j8spec.annotation.Parallel}. Examples outside of the group
+         * keep running one at a time.
+         *
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder parallel() {
+            this.parallel = true;
+            return this;
+        }
+
         ExampleGroupConfiguration build() {
             return new ExampleGroupConfiguration(
                 description,
                 executionFlag,
                 executionOrder,
-                seed
+                seed,
+                parallel
             );
         }
     }
@@ -58,17 +77,20 @@ public final class ExampleGroupConfiguration {
     private final BlockExecutionFlag executionFlag;
     private final BlockExecutionOrder executionOrder;
     private final Long seed;
+    private final boolean parallel;
 
     private ExampleGroupConfiguration(
         String description,
         BlockExecutionFlag executionFlag,
         BlockExecutionOrder executionOrder,
-        Long seed
+        Long seed,
+        boolean parallel
     ) {
         this.description = description;
         this.executionFlag = executionFlag;
         this.executionOrder = executionOrder;
         this.seed = seed;
+        this.parallel = parallel;
     }
 
     String description() {
@@ -86,4 +108,8 @@ public final class ExampleGroupConfiguration {
     Long seed() {
         return seed;
     }
+
+    boolean parallel() {
+        return parallel;
+    }
 }
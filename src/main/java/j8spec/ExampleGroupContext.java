@@ -1,10 +1,12 @@
 package j8spec;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 final class ExampleGroupContext {
 
-    private final Stack<ExampleGroupDefinition> stack = new Stack<>();
+    private final Deque<ExampleGroupDefinition> stack = new ArrayDeque<>();
+    private int vars;
 
     void switchTo(ExampleGroupDefinition current) {
         stack.push(current);
@@ -17,4 +19,8 @@ final class ExampleGroupContext {
     ExampleGroupDefinition current() {
         return stack.peek();
     }
+
+    int nextVarIndex() {
+        return vars++;
+    }
 }
@@ -1,6 +1,7 @@
 package j8spec;
 
 import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.Parallel;
 import j8spec.annotation.RandomOrder;
 
 import java.util.LinkedList;
@@ -27,6 +28,10 @@ final class ExampleGroupDefinition implements BlockDefinition {
 
         configureExecutionOrder(specClass, configBuilder);
 
+        if (specClass.isAnnotationPresent(Parallel.class)) {
+            configBuilder.parallel();
+        }
+
         ExampleGroupDefinition group = new ExampleGroupDefinition(configBuilder.build(), context);
         context.switchTo(group);
 
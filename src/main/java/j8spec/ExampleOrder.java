@@ -0,0 +1,97 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Puts examples in execution order. Examples and inner groups are collected per group in the order they are defined,
+ * and the children of groups using random order are shuffled once when the group ends, so examples of the same group
+ * are always kept together.
+ */
+final class ExampleOrder {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleOrder");
+
+    private static final class Level {
+        private final Random random;
+        private final List<Object> children = new ArrayList<>();
+        private int size;
+
+        Level(Random random) {
+            this.random = random;
+        }
+    }
+
+    private final Deque<Level> levels = new ArrayDeque<>();
+    private Level root;
+
+    void pushLevel(ExampleGroupConfiguration config) {
+        switch (config.executionOrder()) {
+            case DEFINED:
+                levels.push(new Level(null));
+                break;
+            case RANDOM:
+                Long seed = config.seed();
+                if (seed == null) {
+                    seed = RandomOrderSeedProvider.seed();
+                } else {
+                    LOG.info("overriding random order seed for '" + config.description() + "': " + seed);
+                }
+                levels.push(new Level(new Random(seed)));
+                break;
+            case DEFAULT:
+                if (levels.isEmpty()) {
+                    throw new IllegalStateException();
+                }
+
+                levels.push(new Level(levels.peek().random));
+                break;
+        }
+    }
+
+    void add(Example example) {
+        Level level = levels.peek();
+        level.children.add(example);
+        level.size++;
+    }
+
+    void popLevel() {
+        Level level = levels.pop();
+
+        if (level.random != null) {
+            Collections.shuffle(level.children, level.random);
+        }
+
+        if (levels.isEmpty()) {
+            root = level;
+        } else {
+            levels.peek().children.add(level);
+            levels.peek().size += level.size;
+        }
+    }
+
+    List<Example> examples() {
+        if (root == null) {
+            return new ArrayList<>();
+        }
+
+        List<Example> examples = new ArrayList<>(root.size);
+        flatten(root, examples);
+        return examples;
+    }
+
+    private static void flatten(Level level, List<Example> examples) {
+        for (Object child : level.children) {
+            if (child instanceof Example) {
+                examples.add((Example) child);
+            } else {
+                flatten((Level) child, examples);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the examples built from each spec class, so reading the same spec again does not create a new instance of
+ * the spec class nor visit its block definitions again. Each read gets copies of the cached examples and groups with
+ * their own execution state. The shard selected by <code>j8spec.shard</code> is applied to the copies, so the cached
+ * examples are shared by reads using different shards.
+ *
+ * <p>
+ *     Plans are attached to the spec class through a {@link ClassValue}, so they are discarded together with the
+ *     class when its class loader becomes unreachable.
+ * </p>
+ */
+final class ExamplePlanCache {
+
+    private static final ClassValue<ConcurrentMap<Key, List<Example>>> plans =
+        new ClassValue<ConcurrentMap<Key, List<Example>>>() {
+            @Override
+            protected ConcurrentMap<Key, List<Example>> computeValue(Class<?> specClass) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    static boolean isEnabled() {
+        return Boolean.valueOf(System.getProperty("j8spec.plan.cache", "false"));
+    }
+
+    static List<Example> read(Class<?> specClass, Function<Class<?>, List<Example>> reader) {
+        List<Example> plan = plans.get(specClass).computeIfAbsent(Key.current(), key -> reader.apply(specClass));
+        return instantiate(plan);
+    }
+
+    private static List<Example> instantiate(List<Example> plan) {
+        Map<ExampleGroup, ExampleGroup> groups = new IdentityHashMap<>();
+        List<Example> examples = new ArrayList<>(plan.size());
+
+        for (Example example : plan) {
+            examples.add(example.copy(groups));
+        }
+
+        return ExampleBuilder.prepare(examples);
+    }
+
+    private static final class Key {
+        private final Long seed;
+        private final boolean ciMode;
+
+        static Key current() {
+            return new Key(
+                RandomOrderSeedProvider.seed(),
+                Boolean.valueOf(System.getProperty("j8spec.ci.mode", "false"))
+            );
+        }
+
+        private Key(Long seed, boolean ciMode) {
+            this.seed = seed;
+            this.ciMode = ciMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return ciMode == key.ciMode && seed.equals(key.seed);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * seed.hashCode() + (ciMode ? 1 : 0);
+        }
+    }
+
+    private ExamplePlanCache() {}
+}
@@ -0,0 +1,76 @@
+package j8spec;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Retries of failed examples. Examples configured without a number of retries are retried as many times as set by the
+ * system property <code>j8spec.retries</code>, none by default.
+ *
+ * <p>
+ *     All examples run by the JVM share a budget of retries, set by the system property
+ *     <code>j8spec.retries.budget</code>, 10 by default or unlimited when negative, so a real regression failing many
+ *     examples does not multiply the run time. Once the budget is spent, failed examples are no longer retried.
+ * </p>
+ *
+ * <p>
+ *     Every failed attempt followed by a retry is logged, as is an example passing after being retried. The failures of
+ *     the failed attempts of an example passing after being retried are kept in {@link Example#passedOnRetry()}.
+ * </p>
+ */
+final class ExampleRetries {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleRetries");
+
+    private static final AtomicInteger spent = new AtomicInteger();
+    private static final AtomicBoolean budgetSpentLogged = new AtomicBoolean();
+
+    static int retries(int configured) {
+        return configured < 0 ? Integer.getInteger("j8spec.retries", 0) : configured;
+    }
+
+    static boolean tryToSpend() {
+        int budget = Integer.getInteger("j8spec.retries.budget", 10);
+        if (budget < 0) {
+            spent.incrementAndGet();
+            return true;
+        }
+
+        int current;
+        do {
+            current = spent.get();
+            if (current >= budget) {
+                if (budgetSpentLogged.compareAndSet(false, true)) {
+                    LOG.warning("retry budget of " + budget + " retries spent, failed examples are no longer retried");
+                }
+                return false;
+            }
+        } while (!spent.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    static void attemptFailed(Example example, int attempt, int attempts, Throwable failure) {
+        LOG.log(
+            Level.WARNING,
+            "attempt " + attempt + " of " + attempts + " of " + path(example) + " failed, retrying",
+            failure
+        );
+    }
+
+    static void passed(Example example, int attempt, int attempts) {
+        LOG.warning(path(example) + " passed on attempt " + attempt + " of " + attempts);
+    }
+
+    static void resetBudget() {
+        spent.set(0);
+        budgetSpentLogged.set(false);
+    }
+
+    private static String path(Example example) {
+        return "'" + String.join(" ", example.containerDescriptions()) + " " + example.description() + "'";
+    }
+
+    private ExampleRetries() {}
+}
@@ -0,0 +1,72 @@
+package j8spec;
+
+import java.util.Arrays;
+
+/**
+ * Values of {@link Var} objects written by the example running on a thread. Values written by before all and after
+ * all hooks are not kept in the scope, so all examples share them.
+ */
+final class ExampleScope {
+
+    static final Object UNSET = new Object();
+
+    private Object[] values = new Object[8];
+    private boolean started;
+    private boolean sharedWrites;
+
+    static void startExample() {
+        ExampleScope scope = ExampleScopeLookup.current();
+        if (scope != null) {
+            Arrays.fill(scope.values, UNSET);
+            scope.started = true;
+        }
+    }
+
+    static ExampleScope seededFrom(ExampleScope parent) {
+        ExampleScope scope = new ExampleScope();
+        if (parent != null && parent.started) {
+            scope.values = parent.values.clone();
+        } else {
+            Arrays.fill(scope.values, UNSET);
+        }
+        scope.started = true;
+        return scope;
+    }
+
+    static void shareWrites(boolean sharedWrites) {
+        ExampleScope scope = ExampleScopeLookup.current();
+        if (scope != null) {
+            scope.sharedWrites = sharedWrites;
+        }
+    }
+
+    static void endExample() {
+        ExampleScope scope = ExampleScopeLookup.current();
+        if (scope != null) {
+            scope.started = false;
+            scope.sharedWrites = false;
+        }
+    }
+
+    Object get(int index) {
+        if (!started || index >= values.length) {
+            return UNSET;
+        }
+        return values[index];
+    }
+
+    boolean set(int index, Object value) {
+        if (!started || sharedWrites) {
+            return false;
+        }
+
+        if (index >= values.length) {
+            int length = values.length;
+            values = Arrays.copyOf(values, Math.max(index + 1, length * 2));
+            Arrays.fill(values, length, values.length, UNSET);
+        }
+
+        values[index] = value;
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package j8spec;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds the {@link ExampleScope} of the current thread. Only {@link ExampleThread}s, the workers of their
+ * work-stealing pools and threads running {@link ExampleThread#runInScope} have one. Virtual threads created by
+ * the runner on Java 21 run each example through {@link ExampleThread#runInScope}. Other threads look up their
+ * borrowed scope only while some thread is holding one, so reading variables costs no lookup otherwise.
+ */
+final class ExampleScopeLookup {
+
+    private static final ThreadLocal<ExampleScope> BORROWED_SCOPES = new ThreadLocal<>();
+    private static final AtomicInteger BORROWING_THREADS = new AtomicInteger();
+
+    static ExampleScope current() {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ExampleThread) {
+            return ((ExampleThread) thread).scope();
+        }
+        if (thread instanceof ExampleThread.Worker) {
+            return ((ExampleThread.Worker) thread).scope();
+        }
+        return BORROWING_THREADS.get() > 0 ? BORROWED_SCOPES.get() : null;
+    }
+
+    static ExampleScope borrow(ExampleScope scope) {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ExampleThread) {
+            return ((ExampleThread) thread).scope(scope);
+        }
+        if (thread instanceof ExampleThread.Worker) {
+            return ((ExampleThread.Worker) thread).scope(scope);
+        }
+
+        ExampleScope previous = BORROWED_SCOPES.get();
+        if (previous == null) {
+            BORROWING_THREADS.incrementAndGet();
+        }
+        BORROWED_SCOPES.set(scope);
+        return previous;
+    }
+
+    static void giveBack(ExampleScope previous) {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ExampleThread) {
+            ((ExampleThread) thread).scope(previous);
+        } else if (thread instanceof ExampleThread.Worker) {
+            ((ExampleThread.Worker) thread).scope(previous);
+        } else if (previous == null) {
+            BORROWED_SCOPES.remove();
+            BORROWING_THREADS.decrementAndGet();
+        } else {
+            BORROWED_SCOPES.set(previous);
+        }
+    }
+
+    private ExampleScopeLookup() {}
+}
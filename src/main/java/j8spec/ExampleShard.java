@@ -0,0 +1,240 @@
+package j8spec;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Part of the examples of a spec to run, selected by the system property <code>j8spec.shard</code> with a value like
+ * <code>3/8</code>, meaning the third of eight shards.
+ *
+ * <p>
+ *     Each example is assigned to a shard by a CRC-32 of its full description path, so every node computes the same
+ *     assignment without any coordination. Examples inside an example group with before all hooks are assigned
+ *     together, by the path of the outermost such group, so the hooks run on a single shard. The spec itself is not
+ *     kept together by its own before all hooks: they run once on every shard with examples of the spec, instead of
+ *     pinning a whole spec, often most of a suite, to a single shard. Hooks too expensive to run on every shard can be
+ *     moved into an example group around the examples that need them.
+ * </p>
+ *
+ * <p>
+ *     Setting the system property <code>j8spec.shard.balanced</code> to <code>true</code> balances the shards by the
+ *     durations recorded in the {@link ExampleDurations} file instead. The examples and groups of all specs in the
+ *     file are packed together, once per JVM, the most expensive first, each one to the shard with the lowest
+ *     predicted duration so far, so every node computes the same plan for the whole run whatever specs it reads.
+ *     Examples without recorded durations are still assigned by hash. The predicted duration of each shard for the
+ *     whole run is logged, to help choosing the number of shards.
+ * </p>
+ */
+final class ExampleShard {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleShard");
+
+    private static final Lock LOCK = new ReentrantLock();
+
+    private static Map<List<String>, Integer> plan;
+    private static Path planFile;
+    private static int planTotal;
+
+    private final int index;
+    private final int total;
+    private final boolean balanced;
+
+    private ExampleShard(int index, int total, boolean balanced) {
+        this.index = index;
+        this.total = total;
+        this.balanced = balanced;
+    }
+
+    static ExampleShard current() {
+        String shard = System.getProperty("j8spec.shard", "").trim();
+        if (shard.isEmpty()) {
+            return null;
+        }
+
+        int separator = shard.indexOf('/');
+        if (separator < 0) {
+            throw new Exceptions.IllegalShardProperty(shard);
+        }
+
+        try {
+            int index = Integer.parseInt(shard.substring(0, separator).trim());
+            int total = Integer.parseInt(shard.substring(separator + 1).trim());
+            if (index < 1 || index > total) {
+                throw new Exceptions.IllegalShardProperty(shard);
+            }
+            return new ExampleShard(
+                index,
+                total,
+                Boolean.valueOf(System.getProperty("j8spec.shard.balanced", "false"))
+            );
+        } catch (NumberFormatException e) {
+            throw new Exceptions.IllegalShardProperty(shard);
+        }
+    }
+
+    List<Example> select(List<Example> examples) {
+        Map<List<String>, List<Example>> units = new LinkedHashMap<>();
+        for (Example example : examples) {
+            units.computeIfAbsent(unit(example), unit -> new ArrayList<>()).add(example);
+        }
+
+        Map<List<String>, Integer> shards = balanced ? balance(units) : new HashMap<>();
+        for (List<String> unit : units.keySet()) {
+            shards.computeIfAbsent(unit, this::shardOf);
+        }
+
+        List<Example> selected = new ArrayList<>();
+        for (Example example : examples) {
+            if (shards.get(unit(example)) == index) {
+                selected.add(example);
+            } else {
+                example.skip();
+            }
+        }
+        return selected;
+    }
+
+    static List<String> unit(Example example) {
+        ExampleGroup outermost = null;
+        for (ExampleGroup group = example.group(); group.parent() != null; group = group.parent()) {
+            if (group.hasBeforeAllHooks()) {
+                outermost = group;
+            }
+        }
+
+        if (outermost != null) {
+            return outermost.descriptions();
+        }
+
+        List<String> path = new ArrayList<>(example.containerDescriptions());
+        path.add(example.description());
+        return path;
+    }
+
+    private Map<List<String>, Integer> balance(Map<List<String>, List<Example>> units) {
+        Map<List<String>, Integer> plan = plan(total);
+
+        Map<List<String>, Integer> shards = new HashMap<>();
+        int unknownExamples = 0;
+        for (Map.Entry<List<String>, List<Example>> unit : units.entrySet()) {
+            Integer shard = plan.get(unit.getKey());
+            if (shard == null) {
+                unknownExamples += unit.getValue().size();
+            } else {
+                shards.put(unit.getKey(), shard);
+            }
+        }
+
+        if (unknownExamples > 0) {
+            String spec = units.keySet().iterator().next().get(0);
+            LOG.info(unknownExamples + " examples of '" + spec + "' without recorded durations assigned by hash");
+        }
+        return shards;
+    }
+
+    private static Map<List<String>, Integer> plan(int total) {
+        Path file = ExampleDurations.file().toAbsolutePath();
+
+        LOCK.lock();
+        try {
+            if (plan == null || !planFile.equals(file) || planTotal != total) {
+                plan = pack(ExampleDurations.read(), total);
+                planFile = file;
+                planTotal = total;
+            }
+            return plan;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static Map<List<String>, Integer> pack(ExampleDurations durations, int total) {
+        Map<List<String>, Long> costs = new HashMap<>();
+        Map<List<String>, Set<List<String>>> groups = new HashMap<>();
+        Set<String> specs = new HashSet<>();
+
+        for (List<String> path : durations.examples()) {
+            List<String> unit = unit(durations, path);
+            costs.merge(unit, durations.example(path), Long::sum);
+            Set<List<String>> unitGroups = groups.computeIfAbsent(unit, u -> new HashSet<>());
+            for (int depth = unit.size(); depth < path.size(); depth++) {
+                unitGroups.add(path.subList(0, depth));
+            }
+            specs.add(path.get(0));
+        }
+
+        for (Map.Entry<List<String>, Set<List<String>>> unit : groups.entrySet()) {
+            for (List<String> group : unit.getValue()) {
+                Long duration = durations.group(group);
+                if (duration != null) {
+                    costs.merge(unit.getKey(), duration, Long::sum);
+                }
+            }
+        }
+
+        List<List<String>> units = new ArrayList<>(costs.keySet());
+        units.sort(
+            Comparator.<List<String>>comparingLong(costs::get).reversed()
+                .thenComparing(unit -> String.join("\t", unit))
+        );
+
+        long[] loads = new long[total];
+        Map<List<String>, Integer> shards = new HashMap<>();
+        for (List<String> unit : units) {
+            int lightest = 0;
+            for (int i = 1; i < total; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            loads[lightest] += costs.get(unit);
+            shards.put(unit, lightest + 1);
+        }
+
+        logPredictedDurations(specs.size(), loads);
+
+        return shards;
+    }
+
+    private static List<String> unit(ExampleDurations durations, List<String> path) {
+        for (int depth = 2; depth < path.size(); depth++) {
+            List<String> group = path.subList(0, depth);
+            if (durations.hasBeforeAllHooks(group)) {
+                return new ArrayList<>(group);
+            }
+        }
+        return path;
+    }
+
+    private static void logPredictedDurations(int specs, long[] loads) {
+        StringBuilder message = new StringBuilder("predicted shard durations for ").append(specs).append(" specs:");
+        for (int i = 0; i < loads.length; i++) {
+            message.append(i == 0 ? " " : ", ").append(i + 1).append(": ").append(NANOSECONDS.toMillis(loads[i]))
+                .append(" ms");
+        }
+        LOG.info(message.toString());
+    }
+
+    int shardOf(List<String> unit) {
+        CRC32 crc = new CRC32();
+        for (String description : unit) {
+            crc.update(description.getBytes(UTF_8));
+            crc.update(0);
+        }
+        return (int) (crc.getValue() % total) + 1;
+    }
+}
@@ -0,0 +1,149 @@
+package j8spec;
+
+import java.util.Arrays;
+import java.util.concurrent.CyclicBarrier;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Runs the block of an example many times, from one thread or from many threads started together, and logs the
+ * throughput and latency of the block. Each thread keeps its own values of {@link Var} objects, starting from the
+ * values of the example. Threads wait for each other to start for no longer than the timeout of the example.
+ */
+final class ExampleStress {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleStress");
+
+    private final String description;
+    private final int threads;
+    private final int iterations;
+    private final long timeoutNanos;
+    private final long[] latencies;
+    private volatile long start;
+    private long end;
+
+    ExampleStress(String description, int threads, int iterations, long timeoutNanos) {
+        this.description = description;
+        this.threads = threads;
+        this.iterations = iterations;
+        this.timeoutNanos = timeoutNanos;
+        this.latencies = new long[threads * iterations];
+    }
+
+    Exceptions.Collector execute(Exceptions.Collector failures, UnsafeBlock block, int iteration) {
+        long blockStart = System.nanoTime();
+        if (iteration == 0) {
+            start = blockStart;
+        }
+        failures = Exceptions.Collector.execute(failures, block);
+        end = System.nanoTime();
+        latencies[iteration] = end - blockStart;
+        return failures;
+    }
+
+    Exceptions.Collector executeConcurrently(UnsafeBlock block) {
+        CyclicBarrier barrier = new CyclicBarrier(threads, () -> start = System.nanoTime());
+        Exceptions.Collector[] failures = new Exceptions.Collector[threads];
+        ExampleScope scope = ExampleScopeLookup.current();
+
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            workers[i] = new ExampleThread(
+                () -> failures[thread] = executeOnThread(block, barrier, thread),
+                description + " " + (thread + 1),
+                ExampleScope.seededFrom(scope)
+            );
+            workers[i].start();
+        }
+
+        Exceptions.Collector collector = join(workers);
+        end = System.nanoTime();
+
+        for (Exceptions.Collector threadFailures : failures) {
+            collector = Exceptions.Collector.addAll(collector, threadFailures);
+        }
+        return collector;
+    }
+
+    private Exceptions.Collector executeOnThread(UnsafeBlock block, CyclicBarrier barrier, int thread) {
+        Exceptions.Collector failures = Exceptions.Collector.execute(null, () -> await(barrier));
+        if (failures != null) {
+            return failures;
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            long blockStart = System.nanoTime();
+            failures = Exceptions.Collector.execute(failures, block);
+            latencies[thread * iterations + i] = System.nanoTime() - blockStart;
+        }
+        return failures;
+    }
+
+    private void await(CyclicBarrier barrier) throws Exception {
+        if (timeoutNanos == 0) {
+            barrier.await();
+        } else {
+            barrier.await(timeoutNanos, NANOSECONDS);
+        }
+    }
+
+    private static Exceptions.Collector join(Thread[] workers) {
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+            for (Thread worker : workers) {
+                joinUninterruptibly(worker);
+            }
+            Thread.currentThread().interrupt();
+            return Exceptions.Collector.add(null, e);
+        }
+    }
+
+    private static void joinUninterruptibly(Thread worker) {
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void report() {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        long elapsed = Math.max(1, end - start);
+        LOG.info(String.format(
+            "'%s' ran %d times on %d threads: %.0f ops/s, latency p50 %d us, p99 %d us, max %d us",
+            description,
+            sorted.length,
+            threads,
+            sorted.length * (double) SECONDS.toNanos(1) / elapsed,
+            micros(percentile(sorted, 50)),
+            micros(percentile(sorted, 99)),
+            micros(sorted[sorted.length - 1])
+        ));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(sorted.length * percentile / 100.0) - 1)];
+    }
+
+    private static long micros(long nanos) {
+        return NANOSECONDS.toMicros(nanos);
+    }
+}
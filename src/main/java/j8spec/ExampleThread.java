@@ -0,0 +1,100 @@
+package j8spec;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread that keeps the values of {@link Var} objects written by the example it is running, so examples running
+ * at the same time on different example threads do not see each other's values.
+ *
+ * <p>
+ *     Values written by before all and after all hooks are shared by all examples. Threads other than example
+ *     threads always read and write the shared value.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleThread extends Thread {
+
+    private ExampleScope scope;
+
+    /**
+     * @param target code to be executed by the thread
+     * @param name name of the thread
+     * @since 3.1.0
+     */
+    public ExampleThread(Runnable target, String name) {
+        this(target, name, new ExampleScope());
+    }
+
+    /**
+     * Creates a work-stealing pool whose threads, like example threads, keep the values of {@link Var} objects
+     * written by the example they are running.
+     *
+     * @param parallelism number of threads running tasks at the same time
+     * @return new pool
+     * @since 3.1.0
+     */
+    public static ForkJoinPool newWorkStealingPool(int parallelism) {
+        AtomicInteger count = new AtomicInteger();
+        return new ForkJoinPool(
+            parallelism,
+            pool -> new Worker(pool, "j8spec-worker-" + count.incrementAndGet()),
+            null,
+            true
+        );
+    }
+
+    /**
+     * Runs the given block on the current thread as if it were an example thread, so examples run by threads created
+     * elsewhere, like the threads of a test engine, do not see each other's values either.
+     *
+     * @param block code to be executed
+     * @throws Throwable if the block fails
+     * @since 3.1.0
+     */
+    public static void runInScope(UnsafeBlock block) throws Throwable {
+        ExampleScope previous = ExampleScopeLookup.borrow(new ExampleScope());
+        try {
+            block.tryToExecute();
+        } finally {
+            ExampleScopeLookup.giveBack(previous);
+        }
+    }
+
+    ExampleThread(Runnable target, String name, ExampleScope scope) {
+        super(target, name);
+        this.scope = scope;
+    }
+
+    ExampleScope scope() {
+        return scope;
+    }
+
+    ExampleScope scope(ExampleScope scope) {
+        ExampleScope previous = this.scope;
+        this.scope = scope;
+        return previous;
+    }
+
+    static final class Worker extends ForkJoinWorkerThread {
+
+        private ExampleScope scope = new ExampleScope();
+
+        private Worker(ForkJoinPool pool, String name) {
+            super(pool);
+            setName(name);
+        }
+
+        ExampleScope scope() {
+            return scope;
+        }
+
+        ExampleScope scope(ExampleScope scope) {
+            ExampleScope previous = this.scope;
+            this.scope = scope;
+            return previous;
+        }
+    }
+}
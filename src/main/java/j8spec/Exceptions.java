@@ -1,5 +1,10 @@
 package j8spec;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 /**
  * J8Spec exceptions.
  */
@@ -83,6 +88,16 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Thrown when an instance of a class listed in the <code>j8spec.timing.listeners</code> property cannot be created.
+     * @since 3.1.0
+     */
+    public static class TimingListenerInitializationFailed extends Base {
+        TimingListenerInitializationFailed(String className, Exception e) {
+            super("Failed to create instance of timing listener " + className + ".", e);
+        }
+    }
+
     /**
      * Thrown when the <code>j8spec.seed</code> property has an invalid value.
      * @since 3.0.0
@@ -93,6 +108,16 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Thrown when the <code>j8spec.shard</code> property has an invalid value.
+     * @since 3.1.0
+     */
+    public static class IllegalShardProperty extends Base {
+        IllegalShardProperty(String shard) {
+            super("Illegal 'j8spec.shard' property value: '" + shard + "', expected index/total like '3/8'.");
+        }
+    }
+
     /**
      * Thrown when an example has multiple failures.
      * @since 3.1.0
@@ -103,38 +128,139 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Reported for an example that failed and then passed when retried, with the failures of the failed attempts as
+     * suppressed exceptions.
+     * @since 3.1.0
+     */
+    public static class PassedOnRetry extends Base {
+        PassedOnRetry(int attempt, int attempts, Throwable failures) {
+            super("Passed on attempt " + attempt + " of " + attempts + ".", null, true);
+            if (failures instanceof MultipleFailures) {
+                for (Throwable failure : failures.getSuppressed()) {
+                    addSuppressed(failure);
+                }
+            } else {
+                addSuppressed(failures);
+            }
+        }
+    }
+
+    /**
+     * Collects the failures of an example and its hooks. The static methods accept a <code>null</code> collector and
+     * create one only when the first failure happens, so running an example that passes allocates nothing.
+     */
     static class Collector {
-        @SuppressWarnings("ThrowableInstanceNeverThrown")
-        private final Throwable throwable = new MultipleFailures();
+        private Throwable throwable;
 
-        void execute(UnsafeBlock unsafeBlock) {
+        static Collector execute(Collector collector, UnsafeBlock unsafeBlock) {
             try {
                 unsafeBlock.tryToExecute();
+                return collector;
             } catch (Throwable cause) {
-                throwable.addSuppressed(cause);
+                return add(collector, cause);
             }
         }
 
-        void haltOnFailure() throws Throwable {
-            if (isEmpty()) {
+        static Collector executeOrSkip(Collector collector, UnsafeBlock unsafeBlock) {
+            if (isEmpty(collector)) {
+                return execute(collector, unsafeBlock);
+            }
+            return collector;
+        }
+
+        static Collector executeAll(Collector collector, List<? extends UnsafeBlock> unsafeBlocks) {
+            for (int i = 0; i < unsafeBlocks.size(); i++) {
+                collector = execute(collector, unsafeBlocks.get(i));
+            }
+            return collector;
+        }
+
+        static Collector executeAllOrSkip(Collector collector, List<? extends UnsafeBlock> unsafeBlocks) {
+            for (int i = 0; i < unsafeBlocks.size() && isEmpty(collector); i++) {
+                collector = execute(collector, unsafeBlocks.get(i));
+            }
+            return collector;
+        }
+
+        static Collector addAll(Collector collector, Collector other) {
+            if (isEmpty(other)) {
+                return collector;
+            }
+
+            if (other.throwable instanceof MultipleFailures) {
+                for (Throwable cause : other.throwable.getSuppressed()) {
+                    collector = add(collector, cause);
+                }
+                return collector;
+            }
+            return add(collector, other.throwable);
+        }
+
+        static Collector add(Collector collector, Throwable cause) {
+            if (collector == null) {
+                collector = new Collector();
+            }
+            collector.add(cause);
+            return collector;
+        }
+
+        static boolean isEmpty(Collector collector) {
+            return collector == null || collector.isEmpty();
+        }
+
+        static void haltOnFailure(Collector collector) throws Throwable {
+            if (!isEmpty(collector)) {
+                throw collector.failure();
+            }
+        }
+
+        private void add(Throwable cause) {
+            if (throwable == null) {
+                throwable = cause;
                 return;
             }
 
-            if (throwable.getSuppressed().length == 1) {
-                throw throwable.getSuppressed()[0];
+            if (!(throwable instanceof MultipleFailures)) {
+                Throwable first = throwable;
+                throwable = new MultipleFailures();
+                throwable.addSuppressed(first);
             }
+            throwable.addSuppressed(cause);
+        }
 
-            throw throwable;
+        Throwable failure() {
+            return throwable;
+        }
+
+        CompletionStage<Void> executeAsync(UnsafeBlock unsafeBlock) {
+            if (!(unsafeBlock instanceof AsyncBlockAdapter)) {
+                execute(this, unsafeBlock);
+                return completedFuture(null);
+            }
+
+            try {
+                return ((AsyncBlockAdapter) unsafeBlock).start().handle((result, cause) -> {
+                    if (cause != null) {
+                        add(AsyncBlockAdapter.unwrap(cause));
+                    }
+                    return null;
+                });
+            } catch (Throwable cause) {
+                add(cause);
+                return completedFuture(null);
+            }
         }
 
-        void executeOrSkip(UnsafeBlock unsafeBlocks) {
+        CompletionStage<Void> executeOrSkipAsync(UnsafeBlock unsafeBlock) {
             if (isEmpty()) {
-                execute(unsafeBlocks);
+                return executeAsync(unsafeBlock);
             }
+            return completedFuture(null);
         }
 
         boolean isEmpty() {
-            return throwable.getSuppressed().length == 0;
+            return throwable == null;
         }
     }
 }
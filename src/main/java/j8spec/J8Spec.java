@@ -33,13 +33,32 @@ public final class J8Spec {
      * context has been defined already
      * @since 1.0.0
      */
-    public static synchronized void describe(String description, SafeBlock block) {
-        isValidContext("describe");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+    public static void describe(String description, SafeBlock block) {
+        describe(description, identity(), block);
+    }
+
+    /**
+     * Defines a new example group using custom configuration.
+     *
+     * @param description textual description of the example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples or example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same
+     * context has been defined already
+     * @since 3.1.0
+     */
+    public static void describe(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("describe").addGroup(config, block);
     }
 
     /**
@@ -53,13 +72,32 @@ public final class J8Spec {
      * has been defined already
      * @since 2.0.0
      */
-    public static synchronized void context(String description, SafeBlock block) {
-        isValidContext("context");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+    public static void context(String description, SafeBlock block) {
+        context(description, identity(), block);
+    }
+
+    /**
+     * Alias for {@link #describe(String, Function, SafeBlock)}.
+     *
+     * @param description textual description of the example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples and example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @since 3.1.0
+     */
+    public static void context(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("context").addGroup(config, block);
     }
 
     /**
@@ -75,14 +113,35 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xdescribe(String description, SafeBlock block) {
+    public static void xdescribe(String description, SafeBlock block) {
+        xdescribe(description, identity(), block);
+    }
+
+    /**
+     * Defines a new ignored example group using custom configuration.
+     *
+     * @param description textual description of the new example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner example and example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is
+     * <code>true</code>
+     * @since 3.1.0
+     */
+    public static void xdescribe(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
         notAllowedWhenCIModeEnabled("xdescribe");
-        isValidContext("xdescribe");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("xdescribe").addGroup(config, block);
     }
 
     /**
@@ -98,14 +157,35 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xcontext(String description, SafeBlock block) {
+    public static void xcontext(String description, SafeBlock block) {
+        xcontext(description, identity(), block);
+    }
+
+    /**
+     * Alias for {@link #xdescribe(String, Function, SafeBlock)}.
+     *
+     * @param description textual description of the new example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples and example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is
+     * <code>true</code>
+     * @since 3.1.0
+     */
+    public static void xcontext(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
         notAllowedWhenCIModeEnabled("xcontext");
-        isValidContext("xcontext");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("xcontext").addGroup(config, block);
     }
 
     /**
@@ -121,14 +201,35 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fdescribe(String description, SafeBlock block) {
+    public static void fdescribe(String description, SafeBlock block) {
+        fdescribe(description, identity(), block);
+    }
+
+    /**
+     * Defines a new focused example group using custom configuration.
+     *
+     * @param description textual description of the new example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples and example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is
+     * <code>true</code>
+     * @since 3.1.0
+     */
+    public static void fdescribe(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
         notAllowedWhenCIModeEnabled("fdescribe");
-        isValidContext("fdescribe");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("fdescribe").addGroup(config, block);
     }
 
     /**
@@ -143,14 +244,35 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fcontext(String description, SafeBlock block) {
+    public static void fcontext(String description, SafeBlock block) {
+        fcontext(description, identity(), block);
+    }
+
+    /**
+     * Alias for {@link #fdescribe(String, Function, SafeBlock)}.
+     *
+     * @param description textual description of the example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples and example group, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is
+     * <code>true</code>
+     * @since 3.1.0
+     */
+    public static void fcontext(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
         notAllowedWhenCIModeEnabled("fcontext");
-        isValidContext("fcontext");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        currentGroup("fcontext").addGroup(config, block);
     }
 
     /**
@@ -160,9 +282,8 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 2.0.0
      */
-    public static synchronized void beforeAll(UnsafeBlock block) {
-        isValidContext("beforeAll");
-        contexts.get().current().addBeforeAll(block);
+    public static void beforeAll(UnsafeBlock block) {
+        currentGroup("beforeAll").addBeforeAll(block);
     }
 
     /**
@@ -172,9 +293,20 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 1.0.0
      */
-    public static synchronized void beforeEach(UnsafeBlock block) {
-        isValidContext("beforeEach");
-        contexts.get().current().addBeforeEach(block);
+    public static void beforeEach(UnsafeBlock block) {
+        currentGroup("beforeEach").addBeforeEach(block);
+    }
+
+    /**
+     * Defines a new asynchronous hook to run before each example in the group. The example starts once the stage
+     * returned by the hook completes.
+     *
+     * @param block code that starts the hook and returns a stage completed when the hook has finished
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @since 3.1.0
+     */
+    public static void beforeEachAsync(AsyncBlock block) {
+        currentGroup("beforeEachAsync").addBeforeEach(new AsyncBlockAdapter(block));
     }
 
     /**
@@ -184,9 +316,19 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterEach(UnsafeBlock block) {
-        isValidContext("afterEach");
-        contexts.get().current().addAfterEach(block);
+    public static void afterEach(UnsafeBlock block) {
+        currentGroup("afterEach").addAfterEach(block);
+    }
+
+    /**
+     * Defines a new asynchronous hook to run after each example in the group.
+     *
+     * @param block code that starts the hook and returns a stage completed when the hook has finished
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @since 3.1.0
+     */
+    public static void afterEachAsync(AsyncBlock block) {
+        currentGroup("afterEachAsync").addAfterEach(new AsyncBlockAdapter(block));
     }
 
     /**
@@ -196,9 +338,8 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterAll(UnsafeBlock block) {
-        isValidContext("afterAll");
-        contexts.get().current().addAfterAll(block);
+    public static void afterAll(UnsafeBlock block) {
+        currentGroup("afterAll").addAfterAll(block);
     }
 
     /**
@@ -211,7 +352,7 @@ public final class J8Spec {
      * defined already
      * @since 1.0.0
      */
-    public static synchronized void it(String description, UnsafeBlock block) {
+    public static void it(String description, UnsafeBlock block) {
         it(description, identity(), block);
     }
 
@@ -226,17 +367,55 @@ public final class J8Spec {
      * defined already
      * @since 2.0.0
      */
-    public static synchronized void it(
+    public static void it(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
-        isValidContext("it");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addExample(config, block);
+        currentGroup("it").addExample(config, block);
+    }
+
+    /**
+     * Defines a new asynchronous example. The example finishes when the stage returned by the block completes, so
+     * the runner can keep many asynchronous examples in flight without blocking a thread for each one.
+     *
+     * @param description textual description of the new example
+     * @param block code that starts the example and returns a stage completed when the example has finished
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another block with the same description in the same context has been
+     * defined already
+     * @since 3.1.0
+     */
+    public static void itAsync(String description, AsyncBlock block) {
+        itAsync(description, identity(), block);
+    }
+
+    /**
+     * Defines a new asynchronous example using custom configuration. Timeouts and expected exceptions are applied
+     * to the stage returned by the block.
+     *
+     * @param description textual description of the new example
+     * @param collector block configuration collector
+     * @param block code that starts the example and returns a stage completed when the example has finished
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another block with the same description in the same context has been
+     * defined already
+     * @since 3.1.0
+     */
+    public static void itAsync(
+        String description,
+        Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
+        AsyncBlock block
+    ) {
+        ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
+            .description(description)
+            .executionFlag(DEFAULT)
+            .build();
+        currentGroup("itAsync").addExample(config, new AsyncBlockAdapter(block));
     }
 
     /**
@@ -250,7 +429,7 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(String description, UnsafeBlock block) {
+    public static void xit(String description, UnsafeBlock block) {
         xit(description, identity(), block);
     }
 
@@ -267,18 +446,17 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(
+    public static void xit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
         notAllowedWhenCIModeEnabled("xit");
-        isValidContext("xit");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addExample(config, block);
+        currentGroup("xit").addExample(config, block);
     }
 
     /**
@@ -293,7 +471,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(String description, UnsafeBlock block) {
+    public static void fit(String description, UnsafeBlock block) {
         fit(description, identity(), block);
     }
 
@@ -310,18 +488,17 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(
+    public static void fit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
         notAllowedWhenCIModeEnabled("fit");
-        isValidContext("fit");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addExample(config, block);
+        currentGroup("fit").addExample(config, block);
     }
 
     /**
@@ -336,8 +513,7 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> void let(Var<T> var, UnsafeFunction<T> initFunction) {
-        isValidContext("let");
-        contexts.get().current().addVarInitializer(var, initFunction);
+        currentGroup("let").addVarInitializer(var, initFunction);
     }
 
     private static void notAllowedWhenCIModeEnabled(final String methodName) {
@@ -346,10 +522,17 @@ public final class J8Spec {
         }
     }
 
-    private static void isValidContext(final String methodName) {
-        if (contexts.get() == null) {
+    static int nextVarIndex() {
+        ExampleGroupContext context = contexts.get();
+        return context == null ? -1 : context.nextVarIndex();
+    }
+
+    private static ExampleGroupDefinition currentGroup(final String methodName) {
+        ExampleGroupContext context = contexts.get();
+        if (context == null) {
             throw new Exceptions.IllegalContext(methodName);
         }
+        return context.current();
     }
 
     /**
@@ -373,7 +556,7 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -386,33 +569,51 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
     }
 
     /**
      * Uses the given spec class to build and populate a list of {@link Example} objects ready to be executed.
      *
+     * <p>
+     *     When the system property <code>j8spec.plan.cache</code> is <code>true</code>, the examples built for a spec
+     *     class are kept and reused by subsequent calls using the same seed and CI mode, so the spec class is
+     *     instantiated only once.
+     * </p>
+     *
      * @param specClass class with a public default constructor that contains the spec definition
      * @return {@link Example} objects that represent the spec definition and can be executed
      * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
      * @since 2.0.0
      */
-    public static synchronized List<Example> read(Class<?> specClass) {
-        contexts.set(new ExampleGroupContext());
-        try {
-            ExampleGroupDefinition exampleGroupDefinition = newExampleGroupDefinition(specClass, contexts.get());
+    public static List<Example> read(Class<?> specClass) {
+        if (ExamplePlanCache.isEnabled()) {
+            return ExamplePlanCache.read(specClass, J8Spec::build);
+        }
+        return ExampleBuilder.prepare(build(specClass));
+    }
 
-            exampleGroupDefinition.accept(new DuplicatedBlockValidator());
+    private static List<Example> build(Class<?> specClass) {
+        ExampleGroupDefinition exampleGroupDefinition = define(specClass);
 
-            BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector();
-            exampleGroupDefinition.accept(strategySelector);
+        exampleGroupDefinition.accept(new DuplicatedBlockValidator());
 
-            ExampleBuilder exampleBuilder = new ExampleBuilder(strategySelector.strategy());
-            exampleGroupDefinition.accept(exampleBuilder);
+        BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector();
+        exampleGroupDefinition.accept(strategySelector);
 
-            return exampleBuilder.build();
+        ExampleBuilder exampleBuilder = new ExampleBuilder(strategySelector.strategy());
+        exampleGroupDefinition.accept(exampleBuilder);
+
+        return exampleBuilder.build();
+    }
+
+    static ExampleGroupDefinition define(Class<?> specClass) {
+        ExampleGroupContext context = new ExampleGroupContext();
+        contexts.set(context);
+        try {
+            return newExampleGroupDefinition(specClass, context);
         } finally {
-            contexts.set(null);
+            contexts.remove();
         }
     }
 
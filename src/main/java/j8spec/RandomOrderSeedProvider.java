@@ -1,15 +1,28 @@
 package j8spec;
 
 import java.util.Random;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 final class RandomOrderSeedProvider {
 
     private static Logger LOG = Logger.getLogger("j8spec.RandomOrderSeedProvider");
 
+    private static final Lock LOCK = new ReentrantLock();
+
     private static Long seed;
 
-    static synchronized Long seed() {
+    static Long seed() {
+        LOCK.lock();
+        try {
+            return seedOrGenerate();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static Long seedOrGenerate() {
         if (seed == null) {
             String seedFromProperty = System.getProperty("j8spec.seed", "");
             if ("".equals(seedFromProperty)) {
@@ -28,8 +41,13 @@ final class RandomOrderSeedProvider {
         return seed;
     }
 
-    static synchronized void reset() {
-        seed = null;
+    static void reset() {
+        LOCK.lock();
+        try {
+            seed = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     private RandomOrderSeedProvider() {}
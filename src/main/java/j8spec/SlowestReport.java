@@ -0,0 +1,249 @@
+package j8spec;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static j8spec.TimingListener.Phase.AFTER_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_ALL;
+import static j8spec.TimingListener.Phase.BLOCK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Collects the durations of all examples run and reports, at the end of the run, the slowest examples, the slowest
+ * example groups and the hooks with the highest total cost across all examples. The duration of an example includes
+ * the hooks of its outer groups, while the duration of a group only includes the blocks declared in it or in its
+ * inner groups.
+ *
+ * <p>
+ *     Enabled by setting the system property <code>j8spec.report.slowest</code> to the number of entries to report
+ *     for each category. The report is written as JSON to the file named by <code>j8spec.report.slowest.file</code>,
+ *     <code>build/test-results/j8spec-slowest.json</code> by default. Setting
+ *     <code>j8spec.report.slowest.console</code> to <code>true</code> also prints a summary to the console.
+ * </p>
+ */
+final class SlowestReport implements TimingListener {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.SlowestReport");
+
+    private static final String DEFAULT_FILE = "build/test-results/j8spec-slowest.json";
+
+    private static final Lock LOCK = new ReentrantLock();
+
+    private static SlowestReport current;
+
+    static final class Entry {
+        private final List<String> descriptions;
+        private final TimingListener.Phase phase;
+        private long nanos;
+        private long beforeAllNanos;
+        private long afterAllNanos;
+        private int runs;
+
+        private Entry(List<String> descriptions, TimingListener.Phase phase) {
+            this.descriptions = descriptions;
+            this.phase = phase;
+        }
+
+        List<String> descriptions() { return descriptions; }
+
+        long nanos() { return nanos; }
+
+        int runs() { return runs; }
+    }
+
+    private final int size;
+    private final Lock recording = new ReentrantLock();
+    private final Map<List<String>, Entry> examples = new HashMap<>();
+    private final Map<List<String>, Entry> groups = new HashMap<>();
+    private final Map<List<Object>, Entry> hooks = new HashMap<>();
+
+    SlowestReport(int size) {
+        this.size = size;
+    }
+
+    static TimingListener current() {
+        int size = Integer.getInteger("j8spec.report.slowest", 0);
+        if (size <= 0) {
+            return null;
+        }
+
+        LOCK.lock();
+        try {
+            if (current == null) {
+                current = new SlowestReport(size);
+                Runtime.getRuntime().addShutdownHook(new Thread(current::finish, "j8spec-slowest-report"));
+            }
+            return current;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void phaseFinished(Example example, Phase phase, List<String> groupDescriptions, long nanos) {
+        List<String> descriptions = new ArrayList<>(example.containerDescriptions());
+        descriptions.add(example.description());
+        List<String> exampleDescriptions = unmodifiableList(descriptions);
+
+        recording.lock();
+        try {
+            Entry exampleEntry = examples.computeIfAbsent(exampleDescriptions, d -> new Entry(d, null));
+            exampleEntry.nanos += nanos;
+            if (phase == BLOCK) {
+                exampleEntry.runs++;
+            }
+
+            for (int i = 1; i <= groupDescriptions.size(); i++) {
+                groups.computeIfAbsent(groupDescriptions.subList(0, i), d -> new Entry(d, null)).nanos += nanos;
+            }
+
+            if (phase == BEFORE_ALL) {
+                groups.get(groupDescriptions).beforeAllNanos += nanos;
+            } else if (phase == AFTER_ALL) {
+                groups.get(groupDescriptions).afterAllNanos += nanos;
+            }
+
+            if (phase != BLOCK) {
+                List<Object> key = new ArrayList<>(2);
+                key.add(groupDescriptions);
+                key.add(phase);
+                Entry hook = hooks.computeIfAbsent(key, k -> new Entry(groupDescriptions, phase));
+                hook.nanos += nanos;
+                hook.runs++;
+            }
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    List<Entry> slowestExamples() { return slowest(examples); }
+
+    List<Entry> slowestGroups() { return slowest(groups); }
+
+    List<Entry> costliestHooks() { return slowest(hooks); }
+
+    private List<Entry> slowest(Map<?, Entry> entries) {
+        recording.lock();
+        try {
+            List<Entry> slowest = new ArrayList<>(entries.values());
+            slowest.sort(Comparator.comparingLong(Entry::nanos).reversed());
+            return slowest.subList(0, Math.min(size, slowest.size()));
+        } finally {
+            recording.unlock();
+        }
+    }
+
+    private void finish() {
+        Path file = Paths.get(System.getProperty("j8spec.report.slowest.file", DEFAULT_FILE));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                writeJson(writer);
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "failed to write slowest report to " + file, e);
+        }
+
+        if (Boolean.valueOf(System.getProperty("j8spec.report.slowest.console", "false"))) {
+            printSummary(System.out);
+        }
+    }
+
+    void writeJson(Writer writer) throws IOException {
+        writer.write("{\n  \"examples\": [");
+        List<Entry> slowestExamples = slowestExamples();
+        for (int i = 0; i < slowestExamples.size(); i++) {
+            Entry entry = slowestExamples.get(i);
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write("    {\"descriptions\": " + json(entry.descriptions));
+            writer.write(", \"runs\": " + entry.runs + ", \"nanos\": " + entry.nanos + "}");
+        }
+        writer.write("\n  ],\n  \"groups\": [");
+        List<Entry> slowestGroups = slowestGroups();
+        for (int i = 0; i < slowestGroups.size(); i++) {
+            Entry entry = slowestGroups.get(i);
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write("    {\"descriptions\": " + json(entry.descriptions) + ", \"nanos\": " + entry.nanos);
+            writer.write(", \"beforeAllNanos\": " + entry.beforeAllNanos);
+            writer.write(", \"afterAllNanos\": " + entry.afterAllNanos + "}");
+        }
+        writer.write("\n  ],\n  \"hooks\": [");
+        List<Entry> costliestHooks = costliestHooks();
+        for (int i = 0; i < costliestHooks.size(); i++) {
+            Entry entry = costliestHooks.get(i);
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write("    {\"descriptions\": " + json(entry.descriptions) + ", \"phase\": \"" + entry.phase + "\"");
+            writer.write(", \"runs\": " + entry.runs + ", \"nanos\": " + entry.nanos + "}");
+        }
+        writer.write("\n  ]\n}\n");
+    }
+
+    void printSummary(PrintStream out) {
+        out.println("Slowest examples:");
+        for (Entry entry : slowestExamples()) {
+            out.println(String.format("  %8d ms  %s", millis(entry.nanos), String.join("/", entry.descriptions)));
+        }
+        out.println("Slowest example groups:");
+        for (Entry entry : slowestGroups()) {
+            out.println(String.format(
+                "  %8d ms  %s (before all %d ms, after all %d ms)",
+                millis(entry.nanos),
+                String.join("/", entry.descriptions),
+                millis(entry.beforeAllNanos),
+                millis(entry.afterAllNanos)
+            ));
+        }
+        out.println("Costliest hooks:");
+        for (Entry entry : costliestHooks()) {
+            out.println(String.format(
+                "  %8d ms  %s %s (%d runs)",
+                millis(entry.nanos),
+                String.join("/", entry.descriptions),
+                entry.phase,
+                entry.runs
+            ));
+        }
+    }
+
+    private static long millis(long nanos) {
+        return NANOSECONDS.toMillis(nanos);
+    }
+
+    private static String json(List<String> descriptions) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < descriptions.size(); i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append('"');
+            for (char c : descriptions.get(i).toCharArray()) {
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < ' ') {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            json.append('"');
+        }
+        return json.append(']').toString();
+    }
+}
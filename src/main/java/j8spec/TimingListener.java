@@ -0,0 +1,47 @@
+package j8spec;
+
+import java.util.List;
+
+/**
+ * Receives the time spent in each phase of the examples being run.
+ *
+ * <p>
+ *     Listeners are registered by setting the system property <code>j8spec.timing.listeners</code> to a comma
+ *     separated list of class names, each one with a public default constructor. A single instance of each class is
+ *     created and shared by all specs read after the property is set. When the property is not set, examples are run
+ *     without measuring anything.
+ * </p>
+ *
+ * <p>
+ *     Examples running in parallel report their phases from different threads, so listeners must be thread-safe.
+ *     Asynchronous examples are not timed.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public interface TimingListener {
+
+    /**
+     * Phases of an example.
+     * @since 3.1.0
+     */
+    enum Phase {
+        LET,
+        BEFORE_ALL,
+        BEFORE_EACH,
+        BLOCK,
+        AFTER_EACH,
+        AFTER_ALL
+    }
+
+    /**
+     * Called after a phase of an example has run, once for each example group that declared blocks for the phase.
+     * Before all and after all phases are reported only by the example that ran them.
+     *
+     * @param example example being run
+     * @param phase phase that has run
+     * @param groupDescriptions descriptions of the example group that declared the blocks and of its outer groups
+     * @param nanos time spent running the blocks, in nanoseconds
+     */
+    void phaseFinished(Example example, Phase phase, List<String> groupDescriptions, long nanos);
+}
@@ -0,0 +1,71 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates the {@link TimingListener} objects registered through the <code>j8spec.timing.listeners</code> system
+ * property, once for each class, and adds the {@link SlowestReport} and the {@link ExampleDurations} recorder when
+ * they are enabled.
+ */
+final class TimingListeners {
+
+    private static final ConcurrentMap<String, TimingListener> listeners = new ConcurrentHashMap<>();
+
+    static TimingListener current() {
+        List<TimingListener> current = new ArrayList<>();
+
+        String classNames = System.getProperty("j8spec.timing.listeners", "").trim();
+        if (!classNames.isEmpty()) {
+            for (String className : classNames.split(",")) {
+                current.add(listeners.computeIfAbsent(className.trim(), TimingListeners::newListener));
+            }
+        }
+
+        TimingListener slowestReport = SlowestReport.current();
+        if (slowestReport != null) {
+            current.add(slowestReport);
+        }
+
+        TimingListener durationsRecorder = ExampleDurations.recorder();
+        if (durationsRecorder != null) {
+            current.add(durationsRecorder);
+        }
+
+        if (current.isEmpty()) {
+            return null;
+        }
+        if (current.size() == 1) {
+            return current.get(0);
+        }
+        return new Composite(current);
+    }
+
+    private static TimingListener newListener(String className) {
+        try {
+            return (TimingListener) Class.forName(className).newInstance();
+        } catch (Exception e) {
+            throw new Exceptions.TimingListenerInitializationFailed(className, e);
+        }
+    }
+
+    private static final class Composite implements TimingListener {
+
+        private final List<TimingListener> listeners;
+
+        Composite(List<TimingListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void phaseFinished(Example example, Phase phase, List<String> groupDescriptions, long nanos) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).phaseFinished(example, phase, groupDescriptions, nanos);
+            }
+        }
+    }
+
+    private TimingListeners() {}
+}
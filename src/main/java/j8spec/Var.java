@@ -2,11 +2,18 @@ package j8spec;
 
 /**
  * Wrapper object to allow "final" variables to have their value modified.
+ *
+ * <p>
+ *     Variables created while a spec is read keep a separate value for each example running on an
+ *     {@link ExampleThread} or, on Java 21 and later, on a virtual thread created by the runner.
+ * </p>
+ *
  * @since 1.0.0
  */
 public final class Var<T> {
 
-    T value;
+    private final int index;
+    private T value;
 
     /**
      * Creates a wrapper object to allow "final" variables to have their value modified. The initial
@@ -31,7 +38,7 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -45,8 +52,34 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
     }
 
-    Var() {}
+    Var() {
+        index = J8Spec.nextVarIndex();
+    }
+
+    @SuppressWarnings("unchecked")
+    T get() {
+        if (index >= 0) {
+            ExampleScope scope = ExampleScopeLookup.current();
+            if (scope != null) {
+                Object value = scope.get(index);
+                if (value != ExampleScope.UNSET) {
+                    return (T) value;
+                }
+            }
+        }
+        return value;
+    }
+
+    T set(T value) {
+        if (index >= 0) {
+            ExampleScope scope = ExampleScopeLookup.current();
+            if (scope != null && scope.set(index, value)) {
+                return value;
+            }
+        }
+        return this.value = value;
+    }
 }
@@ -1,11 +1,15 @@
 package j8spec;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import static j8spec.J8Spec.*;
 
 class VarInitializer<T> implements UnsafeBlock {
 
     private final Var<T> variable;
     private final UnsafeFunction<T> function;
+    private final Lock initializing = new ReentrantLock();
     private T value;
 
     VarInitializer(Var<T> variable, UnsafeFunction<T> function) {
@@ -13,11 +17,24 @@ class VarInitializer<T> implements UnsafeBlock {
         this.function = function;
     }
 
+    VarInitializer<T> copy() {
+        return new VarInitializer<>(variable, function);
+    }
+
     @Override
     public void tryToExecute() throws Throwable {
-        if (value == null) {
-            value = function.tryToGet();
+        var(variable, value());
+    }
+
+    private T value() throws Throwable {
+        initializing.lock();
+        try {
+            if (value == null) {
+                value = function.tryToGet();
+            }
+            return value;
+        } finally {
+            initializing.unlock();
         }
-        var(variable, value);
     }
 }
@@ -0,0 +1,20 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Examples in a spec annotated with this will be executed by a separate JVM, taken from a pool of JVMs kept running
+ * by {@link j8spec.junit.J8SpecRunner}, so the spec can change system properties and static state without affecting
+ * other specs.
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface Isolated {
+}
@@ -0,0 +1,29 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Examples in a spec annotated with this will be executed in parallel by a bounded pool of worker threads.
+ *
+ * <p>
+ * Before all hooks of a group still run once before any example of the group, and after all hooks once after all
+ * examples of the group have finished.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface Parallel {
+
+    /**
+     * @return maximum number of examples executed at the same time, the number of available processors if zero;
+     * not used when examples run on virtual threads
+     */
+    int threads() default 0;
+}
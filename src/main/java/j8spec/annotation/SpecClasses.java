@@ -0,0 +1,23 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specs run together by a suite annotated with this and run with {@link j8spec.junit.J8SpecSuite}.
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface SpecClasses {
+
+    /**
+     * @return spec classes to be run by the suite
+     */
+    Class<?>[] value();
+}
@@ -0,0 +1,24 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Package searched for specs by a suite annotated with this and run with {@link j8spec.junit.J8SpecSuite}. Every
+ * class of the package or of its subpackages run with {@link j8spec.junit.J8SpecRunner} is part of the suite.
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface SpecPackage {
+
+    /**
+     * @return name of the package searched for specs
+     */
+    String value();
+}
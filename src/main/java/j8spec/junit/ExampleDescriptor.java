@@ -0,0 +1,62 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.ExampleThread;
+import org.junit.AssumptionViolatedException;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.opentest4j.TestAbortedException;
+
+import static j8spec.junit.ExampleStatement.newStatement;
+
+/**
+ * Example of a spec run by {@link J8SpecEngine}, with the same expected exception and timeout handling as
+ * {@link J8SpecRunner}. Examples that should run in parallel run concurrently when parallel execution is enabled.
+ */
+final class ExampleDescriptor extends AbstractTestDescriptor implements Node<J8SpecExecutionContext> {
+
+    static final String SEGMENT_TYPE = "example";
+
+    private final Example example;
+
+    ExampleDescriptor(UniqueId parentId, Example example, TestSource source) {
+        super(parentId.append(SEGMENT_TYPE, example.description()), example.description(), source);
+        this.example = example;
+    }
+
+    Example example() { return example; }
+
+    @Override
+    public Type getType() {
+        return Type.TEST;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return example.shouldRunInParallel() ? ExecutionMode.CONCURRENT : ExecutionMode.SAME_THREAD;
+    }
+
+    @Override
+    public SkipResult shouldBeSkipped(J8SpecExecutionContext context) {
+        return example.shouldBeIgnored() ? SkipResult.skip("example ignored") : SkipResult.doNotSkip();
+    }
+
+    @Override
+    public J8SpecExecutionContext execute(
+        J8SpecExecutionContext context,
+        DynamicTestExecutor dynamicTestExecutor
+    ) throws Exception {
+        try {
+            ExampleThread.runInScope(() -> newStatement(example).evaluate());
+        } catch (AssumptionViolatedException e) {
+            throw new TestAbortedException(e.getMessage(), e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return context;
+    }
+}
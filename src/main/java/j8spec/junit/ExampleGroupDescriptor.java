@@ -0,0 +1,42 @@
+package j8spec.junit;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+/**
+ * Example group of a spec run by {@link J8SpecEngine}. Its hooks are run by the examples inside it, so the group only
+ * decides whether its children may run concurrently.
+ */
+final class ExampleGroupDescriptor extends AbstractTestDescriptor implements Node<J8SpecExecutionContext> {
+
+    static final String SEGMENT_TYPE = "group";
+
+    ExampleGroupDescriptor(UniqueId parentId, String description, TestSource source) {
+        super(parentId.append(SEGMENT_TYPE, description), description, source);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return hasParallelExamples(this) ? ExecutionMode.CONCURRENT : ExecutionMode.SAME_THREAD;
+    }
+
+    private static boolean hasParallelExamples(TestDescriptor descriptor) {
+        for (TestDescriptor child : descriptor.getChildren()) {
+            if (child instanceof ExampleDescriptor && ((ExampleDescriptor) child).example().shouldRunInParallel()) {
+                return true;
+            }
+            if (hasParallelExamples(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
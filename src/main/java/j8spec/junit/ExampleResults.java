@@ -0,0 +1,224 @@
+package j8spec.junit;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.DAYS;
+
+/**
+ * Last outcome and time of the last failure of each example run, kept in the file named by the
+ * <code>j8spec.results.file</code> system property, <code>build/j8spec-results.txt</code> by default. Examples are
+ * identified by the name of the spec class and the name of the example as built by {@link J8SpecRunner}.
+ *
+ * <p>
+ *     The file is read only when <code>j8spec.results.record</code>, <code>j8spec.only.failures</code> or
+ *     <code>j8spec.failures.first</code> is <code>true</code>, and written only when <code>j8spec.results.record</code>
+ *     is, once when the JVM exits. The outcomes recorded by the JVM are merged into the current contents of the file
+ *     while holding a lock on it, so JVMs running specs at the same time keep the outcomes of each other. Examples
+ *     that passed and have not failed for 30 days are forgotten.
+ * </p>
+ */
+final class ExampleResults {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.junit.ExampleResults");
+
+    private static final String PASSED = "passed";
+    private static final String FAILED = "failed";
+
+    private static final long FORGET_AFTER = DAYS.toMillis(30);
+
+    private static final ConcurrentMap<Path, ExampleResults> results = new ConcurrentHashMap<>();
+
+    private static final class Outcome {
+        private final String status;
+        private final long lastFailure;
+
+        Outcome(String status, long lastFailure) {
+            this.status = status;
+            this.lastFailure = lastFailure;
+        }
+    }
+
+    private final Path file;
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, Outcome> outcomes;
+    private final Map<String, Outcome> recorded = new HashMap<>();
+
+    private ExampleResults(Path file, Map<String, Outcome> outcomes) {
+        this.file = file;
+        this.outcomes = outcomes;
+    }
+
+    static ExampleResults current() {
+        if (!isRecording() && !onlyFailures() && !FailuresFirstOrder.isEnabled()) {
+            return null;
+        }
+
+        String fileName = System.getProperty("j8spec.results.file", "build/j8spec-results.txt");
+        if (fileName.isEmpty()) {
+            return null;
+        }
+        return results.computeIfAbsent(Paths.get(fileName).toAbsolutePath(), file -> {
+            ExampleResults exampleResults = load(file);
+            if (isRecording()) {
+                Runtime.getRuntime().addShutdownHook(new Thread(exampleResults::save, "j8spec-results"));
+            }
+            return exampleResults;
+        });
+    }
+
+    static boolean isRecording() {
+        return Boolean.valueOf(System.getProperty("j8spec.results.record", "false"));
+    }
+
+    static boolean onlyFailures() {
+        return Boolean.valueOf(System.getProperty("j8spec.only.failures", "false"));
+    }
+
+    static ExampleResults load(Path file) {
+        return new ExampleResults(file, read(file));
+    }
+
+    private static Map<String, Outcome> read(Path file) {
+        Map<String, Outcome> outcomes = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, UTF_8)) {
+                    String[] fields = line.split("\t", 3);
+                    if (fields.length == 3) {
+                        outcomes.put(fields[2], new Outcome(fields[0], Long.parseLong(fields[1])));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                LOG.log(Level.WARNING, "failed to read example results from " + file, e);
+            }
+        }
+        return outcomes;
+    }
+
+    private static String identity(Description description) {
+        return description.getClassName() + "/" + description.getMethodName();
+    }
+
+    boolean hasFailed(Description description) {
+        lock.lock();
+        try {
+            Outcome outcome = outcomes.get(identity(description));
+            return outcome != null && FAILED.equals(outcome.status);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastFailure(Description description) {
+        lock.lock();
+        try {
+            Outcome outcome = outcomes.get(identity(description));
+            return outcome == null ? 0 : outcome.lastFailure;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    RunListener recorder() {
+        return new RunListener() {
+            @Override
+            public void testStarted(Description description) {
+                record(description, PASSED);
+            }
+
+            @Override
+            public void testFailure(Failure failure) {
+                record(failure.getDescription(), FAILED);
+            }
+        };
+    }
+
+    private void record(Description description, String status) {
+        if (description.getMethodName() == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            String identity = identity(description);
+            Outcome previous = outcomes.get(identity);
+            long lastFailure = previous == null ? 0 : previous.lastFailure;
+            if (FAILED.equals(status)) {
+                lastFailure = System.currentTimeMillis();
+            }
+            Outcome outcome = new Outcome(status, lastFailure);
+            outcomes.put(identity, outcome);
+            recorded.put(identity, outcome);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void save() {
+        lock.lock();
+        try {
+            if (recorded.isEmpty()) {
+                return;
+            }
+
+            Path directory = file.getParent();
+            Files.createDirectories(directory);
+            Path lockFile = directory.resolve(file.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE); FileLock ignored = channel.lock()) {
+                Map<String, Outcome> merged = read(file);
+                merged.putAll(recorded);
+                forgetOldOutcomes(merged);
+
+                Path temporary = Files.createTempFile(directory, "j8spec-results", ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temporary, UTF_8)) {
+                    for (Map.Entry<String, Outcome> outcome : merged.entrySet()) {
+                        Outcome value = outcome.getValue();
+                        writer.write(value.status + "\t" + value.lastFailure + "\t" + outcome.getKey() + "\n");
+                    }
+                }
+                Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+            recorded.clear();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "failed to write example results to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void forgetOldOutcomes(Map<String, Outcome> outcomes) {
+        long forgetBefore = System.currentTimeMillis() - FORGET_AFTER;
+        Iterator<Outcome> iterator = outcomes.values().iterator();
+        while (iterator.hasNext()) {
+            Outcome outcome = iterator.next();
+            if (PASSED.equals(outcome.status) && outcome.lastFailure < forgetBefore) {
+                iterator.remove();
+            }
+        }
+    }
+}
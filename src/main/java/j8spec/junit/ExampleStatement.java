@@ -1,8 +1,9 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.Exceptions;
+import org.junit.AssumptionViolatedException;
 import org.junit.internal.runners.statements.ExpectException;
-import org.junit.internal.runners.statements.FailOnTimeout;
 import org.junit.runners.model.Statement;
 
 final class ExampleStatement extends Statement {
@@ -17,9 +18,25 @@ final class ExampleStatement extends Statement {
         }
 
         if (example.shouldFailOnTimeout()) {
-            statement = FailOnTimeout.builder()
-                .withTimeout(example.timeout(), example.timeoutUnit())
-                .build(statement);
+            statement = new TimeoutStatement(statement, example.timeout(), example.timeoutUnit());
+        }
+
+        return statement;
+    }
+
+    static Statement newStatement(Example example, Throwable failure) {
+        Statement statement = new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                if (failure != null) {
+                    throw failure;
+                }
+                failIfIgnored(example);
+            }
+        };
+
+        if (example.isExpectedToThrowAnException()) {
+            statement = new ExpectException(statement, example.expected());
         }
 
         return statement;
@@ -32,5 +49,20 @@ final class ExampleStatement extends Statement {
     @Override
     public void evaluate() throws Throwable {
         example.tryToExecute();
+        failIfIgnored(example);
+        failIfPassedOnRetry(example);
+    }
+
+    private static void failIfPassedOnRetry(Example example) {
+        Exceptions.PassedOnRetry passedOnRetry = example.passedOnRetry();
+        if (passedOnRetry != null) {
+            throw new AssumptionViolatedException(passedOnRetry.getMessage(), passedOnRetry);
+        }
+    }
+
+    private static void failIfIgnored(Example example) {
+        if (example.shouldBeIgnored()) {
+            throw new AssumptionViolatedException("before all hook of an outer example group failed");
+        }
     }
 }
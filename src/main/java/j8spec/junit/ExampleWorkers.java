@@ -0,0 +1,30 @@
+package j8spec.junit;
+
+import j8spec.ExampleThread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads that run examples in parallel. The Java 21 version of this class can run each example on its
+ * own virtual thread instead. Suites share a work-stealing pool between the examples of all their specs.
+ */
+final class ExampleWorkers {
+
+    static ExecutorService newWorkers(int threads) {
+        int size = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new ExampleThread(runnable, "j8spec-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static ExecutorService newSharedWorkers(int threads) {
+        return ExampleThread.newWorkStealingPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    }
+
+    private ExampleWorkers() {}
+}
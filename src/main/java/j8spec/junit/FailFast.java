@@ -0,0 +1,56 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the failures of a spec run and stops the run once the number of failures set by the system property
+ * <code>j8spec.fail.fast</code> is reached, interrupting the blocks of the examples running in parallel at that moment.
+ * Their hooks are not interrupted, so the after all hooks of their example groups still run.
+ */
+final class FailFast extends RunListener {
+
+    private final int limit;
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Set<Example> running = ConcurrentHashMap.newKeySet();
+
+    private FailFast(int limit) {
+        this.limit = limit;
+    }
+
+    static FailFast current() {
+        int limit = Integer.getInteger("j8spec.fail.fast", 0);
+        return limit > 0 ? new FailFast(limit) : null;
+    }
+
+    boolean isStopped() {
+        return failures.get() >= limit;
+    }
+
+    boolean enter(Example example) {
+        running.add(example);
+        if (isStopped()) {
+            running.remove(example);
+            return false;
+        }
+        return true;
+    }
+
+    void leave(Example example) {
+        running.remove(example);
+    }
+
+    @Override
+    public void testFailure(Failure failure) {
+        if (failures.incrementAndGet() == limit) {
+            for (Example example : running) {
+                example.interruptBlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package j8spec.junit;
+
+import j8spec.Example;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Moves the examples that failed most recently to the front, along with the example groups that contain them, so
+ * the examples of each group stay together. Examples and groups that never failed keep their relative order.
+ */
+final class FailuresFirstOrder {
+
+    private static final class Node {
+        private final Example example;
+        private final List<Node> children = new ArrayList<>();
+        private final Map<String, Node> groups = new LinkedHashMap<>();
+        private long lastFailure;
+
+        Node(Example example, long lastFailure) {
+            this.example = example;
+            this.lastFailure = lastFailure;
+        }
+    }
+
+    static boolean isEnabled() {
+        return Boolean.valueOf(System.getProperty("j8spec.failures.first", "false"));
+    }
+
+    static List<Example> order(List<Example> examples, ToLongFunction<Example> lastFailure) {
+        Node root = new Node(null, 0);
+        for (Example example : examples) {
+            add(root, example, lastFailure.applyAsLong(example));
+        }
+
+        List<Example> ordered = new ArrayList<>(examples.size());
+        flatten(root, ordered);
+        return ordered;
+    }
+
+    private static void add(Node root, Example example, long lastFailure) {
+        Node group = root;
+        for (String description : example.containerDescriptions()) {
+            group.lastFailure = Math.max(group.lastFailure, lastFailure);
+            Node inner = group.groups.get(description);
+            if (inner == null) {
+                inner = new Node(null, 0);
+                group.groups.put(description, inner);
+                group.children.add(inner);
+            }
+            group = inner;
+        }
+        group.lastFailure = Math.max(group.lastFailure, lastFailure);
+        group.children.add(new Node(example, lastFailure));
+    }
+
+    private static void flatten(Node group, List<Example> ordered) {
+        group.children.sort((node1, node2) -> Long.compare(node2.lastFailure, node1.lastFailure));
+        for (Node child : group.children) {
+            if (child.example == null) {
+                flatten(child, ordered);
+            } else {
+                ordered.add(child.example);
+            }
+        }
+    }
+
+    private FailuresFirstOrder() {}
+}
@@ -0,0 +1,447 @@
+package j8spec.junit;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * JVM running specs sent by another JVM, one at a time. The parent JVM writes the name of the spec class and the names
+ * of the examples to run to the standard input of the worker, and the worker writes back the events of the run,
+ * ending with the heap used after the last garbage collection, over a loopback socket opened by the parent. The
+ * worker connects to it on start, proving it is the forked JVM with a random token received as a system property.
+ * Everything the worker prints to its standard output and standard error, including what the JVM itself prints, like
+ * the logs enabled by <code>-verbose:gc</code>, is copied to the standard output and standard error of the parent.
+ */
+final class ForkedWorker {
+
+    private static final byte STARTED = 1;
+    private static final byte FAILED = 2;
+    private static final byte ASSUMPTION_FAILED = 3;
+    private static final byte IGNORED = 4;
+    private static final byte FINISHED = 5;
+    private static final byte DONE = 6;
+
+    private static final String SPEC = "";
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+
+    private static final List<String> NOT_FORWARDED_PROPERTIES = asList(
+        "j8spec.results.file",
+        "j8spec.results.record",
+        "j8spec.fail.fast",
+        "j8spec.durations.record",
+        "j8spec.report.slowest",
+        "j8spec.shard",
+        "j8spec.fork.",
+        "j8spec.forked"
+    );
+
+    private final Process process;
+    private final Socket socket;
+    private final DataOutputStream requests;
+    private final DataInputStream events;
+    private int specs;
+    private long heapUsed;
+    private long heapMax;
+
+    private ForkedWorker(Process process, Socket socket) throws IOException {
+        this.process = process;
+        this.socket = socket;
+        this.requests = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+        this.events = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    }
+
+    static ForkedWorker start() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            long token = new SecureRandom().nextLong();
+            Process process = new ProcessBuilder(command(server.getLocalPort(), token)).start();
+            copy(process.getInputStream(), System.out, "j8spec-forked-output");
+            copy(process.getErrorStream(), System.err, "j8spec-forked-errors");
+            try {
+                return new ForkedWorker(process, accept(server, process, token));
+            } catch (IOException e) {
+                process.destroy();
+                throw e;
+            }
+        }
+    }
+
+    private static List<String> command(int port, long token) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.addAll(jvmArgs());
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (isForwarded(name)) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-Dj8spec.results.file=");
+        command.add("-Dj8spec.forked=true");
+        command.add("-Dj8spec.forked.port=" + port);
+        command.add("-Dj8spec.forked.token=" + token);
+        command.add(ForkedWorker.class.getName());
+        return command;
+    }
+
+    private static Socket accept(ServerSocket server, Process process, long token) throws IOException {
+        server.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+        while (true) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketTimeoutException e) {
+                if (!process.isAlive()) {
+                    throw new IOException("forked JVM exited before connecting, exit code " + process.exitValue());
+                }
+                continue;
+            }
+
+            try {
+                socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+                if (new DataInputStream(socket.getInputStream()).readLong() == token) {
+                    socket.setSoTimeout(0);
+                    return socket;
+                }
+            } catch (IOException ignored) {
+            }
+            socket.close();
+        }
+    }
+
+    private static void copy(InputStream input, PrintStream output, String name) {
+        Thread copier = new Thread(() -> {
+            byte[] buffer = new byte[8192];
+            try (InputStream in = input) {
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    output.write(buffer, 0, read);
+                }
+            } catch (IOException ignored) {
+            }
+        }, name);
+        copier.setDaemon(true);
+        copier.start();
+    }
+
+    private static List<String> jvmArgs() {
+        String jvmArgs = System.getProperty("j8spec.fork.jvm.args", "").trim();
+        return jvmArgs.isEmpty() ? new ArrayList<>() : asList(jvmArgs.split("\\s+"));
+    }
+
+    private static boolean isForwarded(String name) {
+        if (!name.startsWith("j8spec.")) {
+            return false;
+        }
+        for (String notForwarded : NOT_FORWARDED_PROPERTIES) {
+            if (name.startsWith(notForwarded)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int specs() { return specs; }
+
+    long heapUsed() { return heapUsed; }
+
+    long heapMax() { return heapMax; }
+
+    boolean isAlive() {
+        try {
+            process.exitValue();
+            return false;
+        } catch (IllegalThreadStateException e) {
+            return true;
+        }
+    }
+
+    boolean run(Description spec, Map<String, Description> examples, RunNotifier notifier) {
+        specs++;
+        Set<Description> running = new LinkedHashSet<>();
+        try {
+            requests.writeUTF(spec.getClassName());
+            requests.writeInt(examples.size());
+            for (String example : examples.keySet()) {
+                requests.writeUTF(example);
+            }
+            requests.flush();
+
+            while (true) {
+                byte event = events.readByte();
+                if (event == DONE) {
+                    heapUsed = events.readLong();
+                    heapMax = events.readLong();
+                    return true;
+                }
+
+                String name = events.readUTF();
+                Description description = SPEC.equals(name) ? spec : examples.get(name);
+                if (description == null) {
+                    throw new IOException("unknown example " + name + " of " + spec.getClassName());
+                }
+                fire(event, description, running, notifier);
+            }
+        } catch (IOException e) {
+            for (Description description : running) {
+                notifier.fireTestFailure(new Failure(description, crash(spec, e)));
+                notifier.fireTestFinished(description);
+            }
+            notifier.fireTestFailure(new Failure(spec, crash(spec, e)));
+            stop();
+            return false;
+        }
+    }
+
+    private void fire(
+        byte event,
+        Description description,
+        Set<Description> running,
+        RunNotifier notifier
+    ) throws IOException {
+        switch (event) {
+            case STARTED:
+                running.add(description);
+                notifier.fireTestStarted(description);
+                break;
+            case FAILED:
+                notifier.fireTestFailure(new Failure(description, readFailure()));
+                break;
+            case ASSUMPTION_FAILED:
+                notifier.fireTestAssumptionFailed(new Failure(description, readFailure()));
+                break;
+            case IGNORED:
+                notifier.fireTestIgnored(description);
+                break;
+            case FINISHED:
+                running.remove(description);
+                notifier.fireTestFinished(description);
+                break;
+            default:
+                throw new IOException("unknown event " + event);
+        }
+    }
+
+    private Throwable readFailure() throws IOException {
+        byte[] failure = new byte[events.readInt()];
+        events.readFully(failure);
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(failure))) {
+            return (Throwable) input.readObject();
+        } catch (ClassNotFoundException e) {
+            return new AssertionError("failure of the forked JVM cannot be read, class not found: " + e.getMessage());
+        }
+    }
+
+    private Throwable crash(Description spec, Exception cause) {
+        String exitCode = isAlive() ? "" : ", exit code " + process.exitValue();
+        return new IllegalStateException("forked JVM failed running " + spec.getClassName() + exitCode, cause);
+    }
+
+    void stop() {
+        try {
+            requests.close();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroy();
+            }
+        } catch (IOException e) {
+            process.destroy();
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(socket);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.getInteger("j8spec.forked.port"));
+        DataOutputStream events = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        events.writeLong(Long.parseLong(System.getProperty("j8spec.forked.token")));
+        events.flush();
+        DataInputStream requests = new DataInputStream(new BufferedInputStream(System.in));
+
+        try {
+            while (true) {
+                String specName = requests.readUTF();
+                Set<String> examples = new HashSet<>();
+                for (int i = requests.readInt(); i > 0; i--) {
+                    examples.add(requests.readUTF());
+                }
+
+                runSpec(specName, examples, events);
+
+                events.writeByte(DONE);
+                events.writeLong(heapUsedAfterCollection());
+                events.writeLong(Runtime.getRuntime().maxMemory());
+                events.flush();
+            }
+        } catch (EOFException e) {
+            System.exit(0);
+        } catch (IOException e) {
+            System.exit(1);
+        }
+    }
+
+    private static void runSpec(String specName, Set<String> examples, DataOutputStream events) throws IOException {
+        J8SpecRunner runner;
+        try {
+            runner = new J8SpecRunner(Class.forName(specName));
+        } catch (Exception e) {
+            writeFailure(events, FAILED, SPEC, e);
+            return;
+        }
+
+        try {
+            runner.filter(new Filter() {
+                @Override
+                public boolean shouldRun(Description description) {
+                    return examples.contains(description.getMethodName());
+                }
+
+                @Override
+                public String describe() {
+                    return "examples sent by the parent JVM";
+                }
+            });
+        } catch (NoTestsRemainException e) {
+            return;
+        }
+
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(new EventWriter(events));
+        runner.run(notifier);
+    }
+
+    private static long heapUsedAfterCollection() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && usage != null) {
+                used += usage.getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static String name(Description description) {
+        return description.getMethodName() == null ? SPEC : description.getMethodName();
+    }
+
+    private static void write(DataOutputStream events, byte event, Description description) throws IOException {
+        events.writeByte(event);
+        events.writeUTF(name(description));
+        events.flush();
+    }
+
+    private static void writeFailure(
+        DataOutputStream events,
+        byte event,
+        String name,
+        Throwable failure
+    ) throws IOException {
+        byte[] serialized = serialize(failure);
+        events.writeByte(event);
+        events.writeUTF(name);
+        events.writeInt(serialized.length);
+        events.write(serialized);
+        events.flush();
+    }
+
+    private static byte[] serialize(Throwable failure) throws IOException {
+        try {
+            return serializeObject(failure);
+        } catch (IOException e) {
+            AssertionError replacement = new AssertionError(failure.getClass().getName() + ": " + failure.getMessage());
+            replacement.setStackTrace(failure.getStackTrace());
+            return serializeObject(replacement);
+        }
+    }
+
+    private static byte[] serializeObject(Throwable failure) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(failure);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class EventWriter extends RunListener {
+
+        private final DataOutputStream events;
+
+        EventWriter(DataOutputStream events) {
+            this.events = events;
+        }
+
+        @Override
+        public void testStarted(Description description) throws IOException {
+            write(events, STARTED, description);
+        }
+
+        @Override
+        public void testFailure(Failure failure) throws IOException {
+            writeFailure(events, FAILED, name(failure.getDescription()), failure.getException());
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            try {
+                writeFailure(events, ASSUMPTION_FAILED, name(failure.getDescription()), failure.getException());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void testIgnored(Description description) throws IOException {
+            write(events, IGNORED, description);
+        }
+
+        @Override
+        public void testFinished(Description description) throws IOException {
+            write(events, FINISHED, description);
+        }
+    }
+}
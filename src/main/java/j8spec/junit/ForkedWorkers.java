@@ -0,0 +1,132 @@
+package j8spec.junit;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * Pool of {@link ForkedWorker} JVMs running the specs annotated as isolated, shared by all runners of a JVM.
+ *
+ * <p>
+ *     Up to <code>j8spec.fork.workers</code> JVMs are started, 1 by default, each one with the class path and the
+ *     J8Spec system properties of this JVM and the arguments in <code>j8spec.fork.jvm.args</code>. A JVM is kept
+ *     running after a spec and reused for the next one, until it has run <code>j8spec.fork.max.specs</code> specs,
+ *     50 by default, or its heap used after the last garbage collection exceeds <code>j8spec.fork.max.heap</code>
+ *     megabytes, three quarters of its maximum heap by default. It is then stopped and replaced by a new one when
+ *     needed.
+ * </p>
+ */
+final class ForkedWorkers {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.junit.ForkedWorkers");
+
+    private static final ForkedWorkers shared = new ForkedWorkers();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<ForkedWorker> idle = new ArrayDeque<>();
+    private int started;
+
+    static ForkedWorkers shared() {
+        return shared;
+    }
+
+    static boolean isForked() {
+        return Boolean.valueOf(System.getProperty("j8spec.forked", "false"));
+    }
+
+    void run(Description spec, Map<String, Description> examples, RunNotifier notifier) {
+        ForkedWorker worker;
+        try {
+            worker = acquire();
+        } catch (IOException e) {
+            notifier.fireTestFailure(new Failure(spec, e));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            notifier.fireTestFailure(new Failure(spec, e));
+            return;
+        }
+
+        boolean reusable = false;
+        try {
+            reusable = worker.run(spec, examples, notifier);
+        } finally {
+            release(worker, reusable);
+        }
+    }
+
+    private ForkedWorker acquire() throws IOException, InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                ForkedWorker worker = idle.pollFirst();
+                if (worker != null) {
+                    if (worker.isAlive()) {
+                        return worker;
+                    }
+                    started--;
+                } else if (started < Math.max(1, Integer.getInteger("j8spec.fork.workers", 1))) {
+                    started++;
+                    break;
+                } else {
+                    released.await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return ForkedWorker.start();
+        } catch (IOException e) {
+            release(null, false);
+            throw e;
+        }
+    }
+
+    private void release(ForkedWorker worker, boolean reusable) {
+        if (worker != null && reusable && shouldRecycle(worker)) {
+            worker.stop();
+            reusable = false;
+        }
+
+        lock.lock();
+        try {
+            if (reusable) {
+                idle.addFirst(worker);
+            } else {
+                started--;
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean shouldRecycle(ForkedWorker worker) {
+        if (worker.specs() >= Integer.getInteger("j8spec.fork.max.specs", 50)) {
+            LOG.info("recycling forked JVM after " + worker.specs() + " specs");
+            return true;
+        }
+
+        long maxHeap = Long.getLong("j8spec.fork.max.heap", 0) * 1024 * 1024;
+        if (maxHeap <= 0) {
+            maxHeap = worker.heapMax() / 4 * 3;
+        }
+        if (worker.heapUsed() > maxHeap) {
+            LOG.info("recycling forked JVM using " + worker.heapUsed() / 1024 / 1024 + " MB of heap");
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,98 @@
+package j8spec.junit;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+/**
+ * JUnit Platform test engine for J8Spec specs, the classes run with {@link J8SpecRunner}. Each spec is reported as a
+ * container holding a container for each example group and a test for each example.
+ *
+ * <p>
+ *     Specs can be selected by class, package or class path root, and specs, example groups and examples by unique
+ *     id, applying the class name filters of the discovery request. Examples not selected are skipped when the spec is
+ *     read, so their example groups still run their after all hooks.
+ * </p>
+ *
+ * <p>
+ *     Setting the configuration parameter <code>j8spec.execution.parallel.enabled</code> to <code>true</code> runs the
+ *     specs concurrently, together with the examples that should run in parallel, on the thread pool of the platform,
+ *     configured by the parameters starting with <code>j8spec.execution.parallel.config.</code> the same way the
+ *     Jupiter engine is configured. Specs annotated with {@link j8spec.annotation.Isolated} still run alone.
+ * </p>
+ *
+ * <p>
+ *     The engine is registered as a service, so it is found by the platform when J8Spec is in the class path, but it
+ *     only discovers specs when the configuration parameter <code>j8spec.engine.enabled</code> is <code>true</code>.
+ *     Otherwise specs keep running through {@link J8SpecRunner} on the JUnit Vintage engine, which would run them a
+ *     second time if both engines discovered them. Exclude the Vintage engine when enabling this one.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class J8SpecEngine extends HierarchicalTestEngine<J8SpecExecutionContext> {
+
+    static final String ENABLED = "j8spec.engine.enabled";
+
+    private static final EngineDiscoveryRequestResolver<EngineDescriptor> resolver =
+        EngineDiscoveryRequestResolver.<EngineDescriptor>builder()
+            .addClassContainerSelectorResolver(SpecClassFinder::isSpec)
+            .addSelectorResolver(context -> new SpecSelectorResolver(context.getClassNameFilter()))
+            .build();
+
+    @Override
+    public String getId() {
+        return "j8spec";
+    }
+
+    @Override
+    public Optional<String> getGroupId() {
+        return Optional.of("io.github.j8spec");
+    }
+
+    @Override
+    public Optional<String> getArtifactId() {
+        return Optional.of("j8spec");
+    }
+
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
+        EngineDescriptor engine = new EngineDescriptor(uniqueId, "J8Spec");
+        if (!request.getConfigurationParameters().getBoolean(ENABLED).orElse(false)) {
+            return engine;
+        }
+        resolver.resolve(request, engine);
+
+        for (TestDescriptor spec : new ArrayList<>(engine.getChildren())) {
+            ((SpecDescriptor) spec).removeNotSelected();
+        }
+        return engine;
+    }
+
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        ConfigurationParameters parameters = request.getConfigurationParameters();
+        if (parameters.getBoolean("j8spec.execution.parallel.enabled").orElse(false)) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(
+                new PrefixedConfigurationParameters(parameters, "j8spec.execution.parallel.config.")
+            );
+        }
+        return super.createExecutorService(request);
+    }
+
+    @Override
+    protected J8SpecExecutionContext createExecutionContext(ExecutionRequest request) {
+        return new J8SpecExecutionContext();
+    }
+}
@@ -0,0 +1,9 @@
+package j8spec.junit;
+
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+
+/**
+ * Context of a run of {@link J8SpecEngine}. Examples carry all they need to run, so the context is empty.
+ */
+final class J8SpecExecutionContext implements EngineExecutionContext {
+}
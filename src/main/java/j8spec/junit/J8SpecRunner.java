@@ -2,20 +2,82 @@ package j8spec.junit;
 
 import j8spec.Example;
 import j8spec.J8Spec;
+import j8spec.annotation.Isolated;
+import j8spec.annotation.Parallel;
+import org.junit.AssumptionViolatedException;
+import org.junit.internal.runners.model.EachTestNotifier;
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunListener;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static j8spec.junit.ExampleStatement.newStatement;
 import static org.junit.runner.Description.createTestDescription;
 
 /**
  * JUnit runner for J8Spec specs.
+ *
+ * <p>
+ *     Examples that should run in parallel, all examples of a spec annotated with {@link Parallel} or the ones inside
+ *     example groups configured as parallel, are submitted to a pool of worker threads, sized by the annotation or by
+ *     the number of available processors. Any other example waits for the examples already submitted to finish
+ *     before running on the calling thread. On Java 21 and later, setting the system property
+ *     <code>j8spec.virtual.threads</code> to <code>true</code> runs each parallel example on its own virtual thread
+ *     instead.
+ * </p>
+ *
+ * <p>
+ *     Setting the system property <code>j8spec.results.record</code> to <code>true</code> keeps the outcome of each
+ *     example run in the file named by the system property <code>j8spec.results.file</code>,
+ *     <code>build/j8spec-results.txt</code> by default, written when the JVM exits. Setting the system property
+ *     <code>j8spec.only.failures</code> to <code>true</code> runs only the examples that failed the last time they were
+ *     run, while setting <code>j8spec.failures.first</code> to <code>true</code> runs the examples that failed most
+ *     recently first, keeping the examples of each example group together.
+ * </p>
+ *
+ * <p>
+ *     Setting the system property <code>j8spec.fail.fast</code> to a number of failures stops the run once that many
+ *     examples have failed: the remaining examples are reported as ignored, the after all hooks of the example groups
+ *     already entered still run and the blocks of the examples running in parallel at that moment are interrupted.
+ * </p>
+ *
+ * <p>
+ *     Setting the system property <code>j8spec.retries</code> to a number retries each failed example up to that many
+ *     times, unless the example sets its own number of retries. All retries of the run are limited by the system
+ *     property <code>j8spec.retries.budget</code>, 10 by default. An example failing every attempt is reported with
+ *     the failures of all attempts, while an example passing after being retried is reported as a failed assumption
+ *     with the failures of the failed attempts, so flaky examples stay visible.
+ * </p>
+ *
+ * <p>
+ *     Examples of a spec annotated with {@link Isolated} run in a separate JVM taken from a pool of JVMs reused by
+ *     all isolated specs, with their results reported as if they ran in this JVM. The system property
+ *     <code>j8spec.fork.workers</code> sets the number of JVMs, 1 by default, and <code>j8spec.fork.jvm.args</code>
+ *     their arguments. A JVM is replaced after running <code>j8spec.fork.max.specs</code> specs, 50 by default, or once
+ *     its heap after a garbage collection exceeds <code>j8spec.fork.max.heap</code> megabytes, three quarters of its
+ *     maximum heap by default.
+ * </p>
+ *
+ * <p>
+ *     Asynchronous examples are started on the calling thread and finish when their stage completes, so any number
+ *     of them can be in flight at the same time. An asynchronous example that times out is abandoned, running the
+ *     after all hooks its example groups no longer wait for, before its failure is reported.
+ * </p>
+ *
  * @since 1.0.0
  */
 public final class J8SpecRunner extends ParentRunner<Example> {
@@ -23,17 +85,61 @@ public final class J8SpecRunner extends ParentRunner<Example> {
     private final String specName;
     private final Map<Example, Description> descriptions = new HashMap<>();
     private final List<Example> examples;
+    private final ExampleResults results;
+    private final FailFast failFast;
+    private final int threads;
+    private final ExecutorService sharedWorkers;
+    private final boolean isolated;
+    private final List<Future<?>> running = new ArrayList<>();
+    private ExecutorService workers;
 
     public J8SpecRunner(Class<?> testClass) throws InitializationError {
+        this(testClass, null, FailFast.current());
+    }
+
+    J8SpecRunner(Class<?> testClass, ExecutorService sharedWorkers, FailFast failFast) throws InitializationError {
         super(testClass);
         try {
             specName = testClass.getName();
-            examples = J8Spec.read(testClass);
+            results = ExampleResults.current();
+            this.failFast = failFast;
+            this.sharedWorkers = sharedWorkers;
+            examples = failuresFirst(onlyFailures(J8Spec.read(testClass)));
+            threads = threads(testClass);
+            isolated = testClass.isAnnotationPresent(Isolated.class) && !ForkedWorkers.isForked();
         } catch (Exception e) {
             throw new InitializationError(e);
         }
     }
 
+    private static int threads(Class<?> testClass) {
+        Parallel parallel = testClass.getAnnotation(Parallel.class);
+        return parallel == null ? 0 : parallel.threads();
+    }
+
+    private List<Example> onlyFailures(List<Example> examples) {
+        if (results == null || !ExampleResults.onlyFailures()) {
+            return examples;
+        }
+
+        List<Example> failed = new ArrayList<>();
+        for (Example example : examples) {
+            if (results.hasFailed(describeChild(example))) {
+                failed.add(example);
+            } else {
+                example.skip();
+            }
+        }
+        return failed;
+    }
+
+    private List<Example> failuresFirst(List<Example> examples) {
+        if (results == null || !FailuresFirstOrder.isEnabled()) {
+            return examples;
+        }
+        return FailuresFirstOrder.order(examples, example -> results.lastFailure(describeChild(example)));
+    }
+
     @Override
     protected List<Example> getChildren() {
         return examples;
@@ -66,15 +172,131 @@ public final class J8SpecRunner extends ParentRunner<Example> {
         return containerDescriptions.subList(1, containerDescriptions.size());
     }
 
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        super.filter(filter);
+
+        for (Example example : examples) {
+            if (!filter.shouldRun(describeChild(example))) {
+                example.skip();
+            }
+        }
+    }
+
     @Override
     protected boolean isIgnored(Example example) {
         return example.shouldBeIgnored();
     }
 
+    @Override
+    public void run(RunNotifier notifier) {
+        if (sharedWorkers != null) {
+            super.run(notifier);
+            return;
+        }
+
+        List<RunListener> listeners = new ArrayList<>();
+        if (results != null && ExampleResults.isRecording()) {
+            listeners.add(results.recorder());
+        }
+        if (failFast != null) {
+            listeners.add(failFast);
+        }
+
+        listeners.forEach(notifier::addListener);
+        try {
+            super.run(notifier);
+        } finally {
+            listeners.forEach(notifier::removeListener);
+        }
+    }
+
+    @Override
+    protected Statement childrenInvoker(RunNotifier notifier) {
+        if (isolated && (failFast == null || !failFast.isStopped())) {
+            return new Statement() {
+                @Override
+                public void evaluate() {
+                    runForked(notifier);
+                }
+            };
+        }
+
+        Statement children = super.childrenInvoker(notifier);
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try {
+                    children.evaluate();
+                    awaitRunning();
+                } finally {
+                    if (workers != null) {
+                        workers.shutdownNow();
+                        workers = null;
+                    }
+                }
+            }
+        };
+    }
+
+    private void runForked(RunNotifier notifier) {
+        Map<String, Description> children = new LinkedHashMap<>();
+        for (Description child : getDescription().getChildren()) {
+            children.put(child.getMethodName(), child);
+        }
+        ForkedWorkers.shared().run(getDescription(), children, notifier);
+    }
+
     @Override
     protected void runChild(Example example, RunNotifier notifier) {
         Description description = describeChild(example);
 
+        if (example.isAsync()) {
+            startExample(example, description, notifier);
+        } else if (example.shouldRunInParallel()) {
+            running.add(workers().submit(() -> runParallelExample(example, description, notifier)));
+        } else {
+            awaitRunning();
+            runExample(example, description, notifier);
+        }
+    }
+
+    private void runParallelExample(Example example, Description description, RunNotifier notifier) {
+        if (failFast == null) {
+            runExample(example, description, notifier);
+            return;
+        }
+
+        if (!failFast.enter(example)) {
+            skipExample(example, description, notifier);
+            return;
+        }
+
+        try {
+            runExample(example, description, notifier);
+        } finally {
+            failFast.leave(example);
+        }
+    }
+
+    private void skipExample(Example example, Description description, RunNotifier notifier) {
+        try {
+            example.tryToSkip();
+            notifier.fireTestIgnored(description);
+        } catch (Throwable e) {
+            EachTestNotifier eachNotifier = new EachTestNotifier(notifier, description);
+            eachNotifier.fireTestStarted();
+            eachNotifier.addFailure(e);
+            eachNotifier.fireTestFinished();
+        }
+    }
+
+    private void runExample(Example example, Description description, RunNotifier notifier) {
+        if (failFast != null && failFast.isStopped()) {
+            skipExample(example, description, notifier);
+            return;
+        }
+
         if (isIgnored(example)) {
             notifier.fireTestIgnored(description);
             return;
@@ -82,4 +304,66 @@ public final class J8SpecRunner extends ParentRunner<Example> {
 
         runLeaf(newStatement(example), description, notifier);
     }
+
+    private void startExample(Example example, Description description, RunNotifier notifier) {
+        if (failFast != null && failFast.isStopped()) {
+            skipExample(example, description, notifier);
+            return;
+        }
+
+        if (isIgnored(example)) {
+            notifier.fireTestIgnored(description);
+            return;
+        }
+
+        EachTestNotifier eachNotifier = new EachTestNotifier(notifier, description);
+        eachNotifier.fireTestStarted();
+
+        CompletableFuture<Void> stage = example.start().toCompletableFuture();
+        if (example.shouldFailOnTimeout()) {
+            TimeoutStatement.within(stage, example.timeout(), example.timeoutUnit(), example::abandon);
+        }
+
+        running.add(stage.handle((nothing, cause) -> {
+            finishExample(example, cause, eachNotifier);
+            return null;
+        }));
+    }
+
+    private void finishExample(Example example, Throwable failure, EachTestNotifier notifier) {
+        try {
+            newStatement(example, failure).evaluate();
+        } catch (AssumptionViolatedException e) {
+            notifier.addFailedAssumption(e);
+        } catch (Throwable e) {
+            notifier.addFailure(e);
+        } finally {
+            notifier.fireTestFinished();
+        }
+    }
+
+    private ExecutorService workers() {
+        if (sharedWorkers != null) {
+            return sharedWorkers;
+        }
+        if (workers == null) {
+            workers = ExampleWorkers.newWorkers(threads);
+        }
+        return workers;
+    }
+
+    private void awaitRunning() {
+        try {
+            for (Future<?> example : running) {
+                example.get();
+            }
+        } catch (InterruptedException e) {
+            running.forEach(example -> example.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            running.clear();
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package j8spec.junit;
+
+import j8spec.annotation.Parallel;
+import j8spec.annotation.SpecClasses;
+import j8spec.annotation.SpecPackage;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * JUnit runner for suites of J8Spec specs, listed by the {@link SpecClasses} annotation of the suite class or found in
+ * the package named by its {@link SpecPackage} annotation.
+ *
+ * <pre>
+ * &#64;RunWith(J8SpecSuite.class)
+ * &#64;SpecPackage("com.example")
+ * public class AllSpecs {}
+ * </pre>
+ *
+ * <p>
+ *     All specs of the suite are read before the suite runs and share a single work-stealing pool of worker threads,
+ *     sized by the {@link Parallel} annotation of the suite class. Each spec runs as a task of the pool, so examples of
+ *     many specs run at the same time, and the examples of a spec that should run in parallel are submitted to the
+ *     same pool, whatever the {@link Parallel} annotation of the spec says about threads. Examples of a spec that
+ *     should not run in parallel still run one at a time, and the before all and after all hooks of each example group
+ *     still run once.
+ * </p>
+ *
+ * <p>
+ *     Results of all specs go to the notifier of the suite, and the system properties understood by
+ *     {@link J8SpecRunner} apply to the whole suite, so <code>j8spec.fail.fast</code> counts the failures of all specs.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class J8SpecSuite extends ParentRunner<J8SpecRunner> {
+
+    private final ExecutorService workers;
+    private final FailFast failFast;
+    private final ExampleResults results;
+    private final List<J8SpecRunner> runners;
+
+    public J8SpecSuite(Class<?> suiteClass) throws InitializationError {
+        super(suiteClass);
+        workers = ExampleWorkers.newSharedWorkers(threads(suiteClass));
+        failFast = FailFast.current();
+        results = ExampleResults.current();
+        runners = runners(suiteClass);
+        setScheduler(new SharedWorkersScheduler());
+    }
+
+    private static int threads(Class<?> suiteClass) {
+        Parallel parallel = suiteClass.getAnnotation(Parallel.class);
+        return parallel == null ? 0 : parallel.threads();
+    }
+
+    private List<J8SpecRunner> runners(Class<?> suiteClass) throws InitializationError {
+        List<J8SpecRunner> runners = new ArrayList<>();
+        for (Class<?> specClass : specClasses(suiteClass)) {
+            runners.add(new J8SpecRunner(specClass, workers, failFast));
+        }
+        return unmodifiableList(runners);
+    }
+
+    private static Set<Class<?>> specClasses(Class<?> suiteClass) throws InitializationError {
+        SpecClasses specClasses = suiteClass.getAnnotation(SpecClasses.class);
+        SpecPackage specPackage = suiteClass.getAnnotation(SpecPackage.class);
+        if (specClasses == null && specPackage == null) {
+            throw new InitializationError(
+                "suite " + suiteClass.getName() + " must be annotated with @SpecClasses or @SpecPackage"
+            );
+        }
+
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        if (specClasses != null) {
+            classes.addAll(Arrays.asList(specClasses.value()));
+        }
+        if (specPackage != null) {
+            try {
+                classes.addAll(SpecClassFinder.find(specPackage.value(), suiteClass.getClassLoader()));
+            } catch (Exception e) {
+                throw new InitializationError(e);
+            }
+        }
+        classes.remove(suiteClass);
+        return classes;
+    }
+
+    @Override
+    protected List<J8SpecRunner> getChildren() {
+        return runners;
+    }
+
+    @Override
+    protected Description describeChild(J8SpecRunner runner) {
+        return runner.getDescription();
+    }
+
+    @Override
+    protected void runChild(J8SpecRunner runner, RunNotifier notifier) {
+        runner.run(notifier);
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        List<RunListener> listeners = new ArrayList<>();
+        if (results != null && ExampleResults.isRecording()) {
+            listeners.add(results.recorder());
+        }
+        if (failFast != null) {
+            listeners.add(failFast);
+        }
+
+        listeners.forEach(notifier::addListener);
+        try {
+            super.run(notifier);
+        } finally {
+            listeners.forEach(notifier::removeListener);
+            workers.shutdownNow();
+        }
+    }
+
+    private final class SharedWorkersScheduler implements RunnerScheduler {
+
+        private final List<Future<?>> running = new ArrayList<>();
+
+        @Override
+        public void schedule(Runnable spec) {
+            running.add(workers.submit(spec));
+        }
+
+        @Override
+        public void finished() {
+            try {
+                for (Future<?> spec : running) {
+                    spec.get();
+                }
+            } catch (InterruptedException e) {
+                running.forEach(spec -> spec.cancel(true));
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                running.clear();
+            }
+        }
+    }
+}
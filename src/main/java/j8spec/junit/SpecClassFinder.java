@@ -0,0 +1,104 @@
+package j8spec.junit;
+
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the classes run with {@link J8SpecRunner} in a package and its subpackages, looking in the directories and
+ * jar files of the class path.
+ */
+final class SpecClassFinder {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.junit.SpecClassFinder");
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    static List<Class<?>> find(String packageName, ClassLoader classLoader) throws IOException {
+        String path = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+
+        Enumeration<URL> roots = classLoader.getResources(path);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                addFromDirectory(classNames, toFile(root), packageName);
+            } else if ("jar".equals(root.getProtocol())) {
+                addFromJar(classNames, ((JarURLConnection) root.openConnection()).getJarFile(), path);
+            }
+        }
+
+        List<Class<?>> specClasses = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> candidate = load(className, classLoader);
+            if (candidate != null && isSpec(candidate)) {
+                specClasses.add(candidate);
+            }
+        }
+        return Collections.unmodifiableList(specClasses);
+    }
+
+    private static File toFile(URL url) throws IOException {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void addFromDirectory(Set<String> classNames, File directory, String packageName) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                addFromDirectory(classNames, file, packageName + "." + name);
+            } else if (name.endsWith(CLASS_SUFFIX)) {
+                classNames.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    private static void addFromJar(Set<String> classNames, JarFile jar, String path) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX)) {
+                classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    private static Class<?> load(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOG.log(Level.WARNING, "failed to load " + className + " while looking for specs", e);
+            return null;
+        }
+    }
+
+    static boolean isSpec(Class<?> candidate) {
+        RunWith runWith = candidate.getAnnotation(RunWith.class);
+        return runWith != null && runWith.value() == J8SpecRunner.class;
+    }
+
+    private SpecClassFinder() {}
+}
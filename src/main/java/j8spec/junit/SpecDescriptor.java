@@ -0,0 +1,162 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.J8Spec;
+import j8spec.annotation.Isolated;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+/**
+ * Spec run by {@link J8SpecEngine}, with a container for each example group and a test for each example.
+ *
+ * <p>
+ *     The spec is read when it is discovered. Examples not selected by the discovery request are skipped right away,
+ *     and so are the examples removed later by the filters of the launcher, before the first example runs, so after
+ *     all hooks still run once the selected examples of their groups finish. Specs annotated with {@link Isolated}
+ *     run alone, with no other spec running at the same time.
+ * </p>
+ */
+final class SpecDescriptor extends AbstractTestDescriptor implements Node<J8SpecExecutionContext> {
+
+    static final String SEGMENT_TYPE = "spec";
+
+    private final boolean isolated;
+    private final List<ExampleDescriptor> examples = new ArrayList<>();
+    private final Set<TestDescriptor> selected = new HashSet<>();
+    private boolean selectedAll;
+
+    SpecDescriptor(UniqueId parentId, Class<?> specClass) {
+        this(parentId.append(SEGMENT_TYPE, specClass.getName()), specClass, ClassSource.from(specClass));
+    }
+
+    private SpecDescriptor(UniqueId uniqueId, Class<?> specClass, TestSource source) {
+        super(uniqueId, specClass.getSimpleName(), source);
+        isolated = specClass.isAnnotationPresent(Isolated.class);
+
+        Map<List<String>, TestDescriptor> groups = new HashMap<>();
+        groups.put(emptyList(), this);
+
+        for (Example example : J8Spec.read(specClass)) {
+            List<String> descriptions = example.containerDescriptions();
+            TestDescriptor group = group(groups, descriptions.subList(1, descriptions.size()), source);
+
+            ExampleDescriptor descriptor = new ExampleDescriptor(group.getUniqueId(), example, source);
+            group.addChild(descriptor);
+            examples.add(descriptor);
+        }
+    }
+
+    private static TestDescriptor group(
+        Map<List<String>, TestDescriptor> groups,
+        List<String> path,
+        TestSource source
+    ) {
+        TestDescriptor group = groups.get(path);
+        if (group == null) {
+            TestDescriptor parent = group(groups, path.subList(0, path.size() - 1), source);
+            group = new ExampleGroupDescriptor(parent.getUniqueId(), path.get(path.size() - 1), source);
+            parent.addChild(group);
+            groups.put(path, group);
+        }
+        return group;
+    }
+
+    void selectAll() {
+        selectedAll = true;
+    }
+
+    Optional<TestDescriptor> select(UniqueId uniqueId) {
+        Optional<? extends TestDescriptor> descriptor = findByUniqueId(uniqueId);
+        descriptor.ifPresent(selected::add);
+        return descriptor.map(TestDescriptor.class::cast);
+    }
+
+    void removeNotSelected() {
+        if (selectedAll) {
+            return;
+        }
+
+        for (ExampleDescriptor example : examples) {
+            if (!isSelected(example)) {
+                TestDescriptor parent = example.getParent().orElse(null);
+                example.removeFromHierarchy();
+                removeIfEmpty(parent);
+            }
+        }
+        skipRemovedExamples();
+    }
+
+    private boolean isSelected(TestDescriptor descriptor) {
+        for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+            if (selected.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeIfEmpty(TestDescriptor group) {
+        while (group instanceof ExampleGroupDescriptor && group.getChildren().isEmpty()) {
+            TestDescriptor parent = group.getParent().orElse(null);
+            group.removeFromHierarchy();
+            group = parent;
+        }
+    }
+
+    private void skipRemovedExamples() {
+        for (ExampleDescriptor example : examples) {
+            if (!isInside(example)) {
+                example.example().skip();
+            }
+        }
+    }
+
+    private boolean isInside(TestDescriptor descriptor) {
+        for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+            if (current == this) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.CONCURRENT;
+    }
+
+    @Override
+    public Set<ExclusiveResource> getExclusiveResources() {
+        return isolated ? singleton(new ExclusiveResource(GLOBAL_KEY, READ_WRITE)) : emptySet();
+    }
+
+    @Override
+    public J8SpecExecutionContext prepare(J8SpecExecutionContext context) {
+        skipRemovedExamples();
+        return context;
+    }
+}
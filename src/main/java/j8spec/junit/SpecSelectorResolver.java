@@ -0,0 +1,71 @@
+package j8spec.junit;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.discovery.SelectorResolver;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Match.exact;
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.match;
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
+
+/**
+ * Resolves the spec classes selected directly or found by the platform in packages and class path roots, and the
+ * specs, example groups and examples selected by unique id.
+ */
+final class SpecSelectorResolver implements SelectorResolver {
+
+    private final Predicate<String> classNameFilter;
+
+    SpecSelectorResolver(Predicate<String> classNameFilter) {
+        this.classNameFilter = classNameFilter;
+    }
+
+    @Override
+    public Resolution resolve(ClassSelector selector, Context context) {
+        Class<?> specClass = selector.getJavaClass();
+        if (!SpecClassFinder.isSpec(specClass) || !classNameFilter.test(specClass.getName())) {
+            return unresolved();
+        }
+
+        return addSpec(context, specClass)
+            .map(spec -> {
+                spec.selectAll();
+                return match(exact(spec));
+            })
+            .orElse(unresolved());
+    }
+
+    @Override
+    public Resolution resolve(UniqueIdSelector selector, Context context) {
+        UniqueId uniqueId = selector.getUniqueId();
+        List<UniqueId.Segment> segments = uniqueId.getSegments();
+        if (segments.size() < 2 || !SpecDescriptor.SEGMENT_TYPE.equals(segments.get(1).getType())) {
+            return unresolved();
+        }
+
+        Class<?> specClass;
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            specClass = Class.forName(segments.get(1).getValue(), false, classLoader);
+        } catch (ClassNotFoundException e) {
+            return unresolved();
+        }
+        if (!SpecClassFinder.isSpec(specClass)) {
+            return unresolved();
+        }
+
+        return addSpec(context, specClass)
+            .flatMap(spec -> spec.select(uniqueId))
+            .map(descriptor -> match(exact(descriptor)))
+            .orElse(unresolved());
+    }
+
+    private static Optional<SpecDescriptor> addSpec(Context context, Class<?> specClass) {
+        return context.addToParent(parent -> Optional.of(new SpecDescriptor(parent.getUniqueId(), specClass)));
+    }
+}
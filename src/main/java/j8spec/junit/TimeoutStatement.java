@@ -0,0 +1,112 @@
+package j8spec.junit;
+
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs the statement on the calling thread and fails it if it takes longer than the timeout. Deadlines of all timed
+ * examples are enforced by one shared watchdog thread, which interrupts the thread running an expired example and
+ * keeps its stack trace for the failure. Asynchronous examples are abandoned by the same watchdog when their stage
+ * does not complete in time.
+ */
+final class TimeoutStatement extends Statement {
+
+    private static final ScheduledExecutorService WATCHDOG = newWatchdog();
+
+    private static ScheduledExecutorService newWatchdog() {
+        ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "j8spec-timeout-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
+
+    private final Statement statement;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    TimeoutStatement(Statement statement, long timeout, TimeUnit timeUnit) {
+        this.statement = statement;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+    }
+
+    static void within(CompletionStage<?> stage, long timeout, TimeUnit timeUnit, Consumer<Throwable> onTimeout) {
+        ScheduledFuture<?> expiration = WATCHDOG.schedule(
+            () -> onTimeout.accept(new TestTimedOutException(timeout, timeUnit)),
+            timeout,
+            timeUnit
+        );
+        stage.whenComplete((value, cause) -> expiration.cancel(false));
+    }
+
+    @Override
+    public void evaluate() throws Throwable {
+        Deadline deadline = new Deadline(Thread.currentThread());
+        ScheduledFuture<?> expiration = WATCHDOG.schedule(deadline::expire, timeout, timeUnit);
+
+        Throwable failure = null;
+        try {
+            statement.evaluate();
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        if (deadline.finish()) {
+            expiration.cancel(false);
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+
+        TestTimedOutException timedOut = new TestTimedOutException(timeout, timeUnit);
+        timedOut.setStackTrace(deadline.stackTrace);
+        throw timedOut;
+    }
+
+    private static final class Deadline {
+
+        private final Thread thread;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private StackTraceElement[] stackTrace;
+
+        Deadline(Thread thread) {
+            this.thread = thread;
+        }
+
+        void expire() {
+            if (done.compareAndSet(false, true)) {
+                stackTrace = thread.getStackTrace();
+                thread.interrupt();
+                interrupted.countDown();
+            }
+        }
+
+        boolean finish() {
+            if (done.compareAndSet(false, true)) {
+                return true;
+            }
+
+            while (interrupted.getCount() > 0) {
+                try {
+                    interrupted.await();
+                } catch (InterruptedException ignored) {}
+            }
+            Thread.interrupted();
+            return false;
+        }
+    }
+}
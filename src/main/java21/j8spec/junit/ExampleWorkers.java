@@ -0,0 +1,56 @@
+package j8spec.junit;
+
+import j8spec.ExampleThread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads that run examples in parallel. When the system property <code>j8spec.virtual.threads</code>
+ * is <code>true</code>, each example runs on its own virtual thread and the number of threads is not bounded.
+ * Suites share a work-stealing pool between the examples of all their specs, or virtual threads as well.
+ * Each task run by a virtual thread gets its own scope, as if the thread were an {@link ExampleThread}.
+ */
+final class ExampleWorkers {
+
+    static ExecutorService newWorkers(int threads) {
+        if (Boolean.valueOf(System.getProperty("j8spec.virtual.threads", "false"))) {
+            return newVirtualThreadWorkers();
+        }
+
+        int size = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new ExampleThread(runnable, "j8spec-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static ExecutorService newSharedWorkers(int threads) {
+        if (Boolean.valueOf(System.getProperty("j8spec.virtual.threads", "false"))) {
+            return newVirtualThreadWorkers();
+        }
+
+        return ExampleThread.newWorkStealingPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    }
+
+    private static ExecutorService newVirtualThreadWorkers() {
+        ThreadFactory factory = Thread.ofVirtual().name("j8spec-worker-", 1).factory();
+        return Executors.newThreadPerTaskExecutor(task -> factory.newThread(() -> runInScope(task)));
+    }
+
+    private static void runInScope(Runnable task) {
+        try {
+            ExampleThread.runInScope(task::run);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ExampleWorkers() {}
+}
@@ -0,0 +1,94 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static j8spec.TimingListener.Phase.AFTER_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_EACH;
+import static j8spec.TimingListener.Phase.BLOCK;
+import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExampleDurationsTest {
+
+    @DefinedOrder
+    static class SampleSpec {{
+        describe("describe 1", () -> it("block 1", NOOP::tryToExecute));
+    }}
+
+    @DefinedOrder
+    static class TwoExamplesSpec {{
+        it("block 1", NOOP::tryToExecute);
+        it("block 2", NOOP::tryToExecute);
+    }}
+
+    @Before
+    public void useMissingFile() {
+        System.setProperty("j8spec.durations.file", "missing/j8spec-durations.txt");
+    }
+
+    @After
+    public void clearFile() {
+        System.clearProperty("j8spec.durations.file");
+    }
+
+    @Test
+    public void keeps_durations_of_examples_apart_from_before_all_and_after_all_hooks() {
+        Example example = read(SampleSpec.class).get(0);
+        List<String> spec = asList(SampleSpec.class.getName());
+        List<String> describe = asList(SampleSpec.class.getName(), "describe 1");
+
+        ExampleDurations durations = ExampleDurations.read();
+        durations.phaseFinished(example, BEFORE_ALL, spec, 7);
+        durations.phaseFinished(example, BEFORE_EACH, describe, 2);
+        durations.phaseFinished(example, BLOCK, describe, 3);
+        durations.phaseFinished(example, AFTER_ALL, spec, 1);
+
+        assertThat(durations.example(ExampleDurations.path(example)), is(5L));
+        assertThat(durations.group(spec), is(8L));
+    }
+
+    @Test
+    public void tells_which_example_groups_have_before_all_hooks() {
+        Example example = read(SampleSpec.class).get(0);
+        List<String> spec = asList(SampleSpec.class.getName());
+        List<String> describe = asList(SampleSpec.class.getName(), "describe 1");
+
+        ExampleDurations durations = ExampleDurations.read();
+        durations.phaseFinished(example, BEFORE_ALL, describe, 7);
+        durations.phaseFinished(example, AFTER_ALL, spec, 1);
+
+        assertThat(durations.hasBeforeAllHooks(describe), is(true));
+        assertThat(durations.hasBeforeAllHooks(spec), is(false));
+    }
+
+    @Test
+    public void keeps_the_durations_saved_by_other_jvms() throws Exception {
+        Path file = Files.createTempFile("j8spec-durations", ".txt");
+        file.toFile().deleteOnExit();
+        file.resolveSibling(file.getFileName() + ".lock").toFile().deleteOnExit();
+        System.setProperty("j8spec.durations.file", file.toString());
+        List<Example> examples = read(TwoExamplesSpec.class);
+
+        ExampleDurations jvm1 = ExampleDurations.read();
+        ExampleDurations jvm2 = ExampleDurations.read();
+        jvm1.phaseFinished(examples.get(0), BLOCK, examples.get(0).containerDescriptions(), 3);
+        jvm2.phaseFinished(examples.get(1), BLOCK, examples.get(1).containerDescriptions(), 5);
+        jvm1.save();
+        jvm2.save();
+
+        ExampleDurations durations = ExampleDurations.read();
+        assertThat(durations.example(ExampleDurations.path(examples.get(0))), is(3L));
+        assertThat(durations.example(ExampleDurations.path(examples.get(1))), is(5L));
+    }
+}
@@ -0,0 +1,91 @@
+package j8spec;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ExampleGroupTest {
+
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void composes_descriptions_using_outer_groups() {
+        ExampleGroup outer = new ExampleGroup(null, "outer");
+        ExampleGroup inner = new ExampleGroup(outer, "inner");
+
+        assertThat(outer.descriptions(), is(asList("outer")));
+        assertThat(inner.descriptions(), is(asList("outer", "inner")));
+    }
+
+    @Test
+    public void runs_before_each_hooks_from_outer_to_inner_group() throws Throwable {
+        ExampleGroup outer = new ExampleGroup(null, "outer");
+        outer.addBeforeEachHook(() -> log.add("outer 1"));
+        outer.addBeforeEachHook(() -> log.add("outer 2"));
+        ExampleGroup inner = new ExampleGroup(outer, "inner");
+        inner.addBeforeEachHook(() -> log.add("inner 1"));
+
+        Exceptions.Collector.haltOnFailure(inner.beforeEach(null, null));
+
+        assertThat(log, is(asList("outer 1", "outer 2", "inner 1")));
+    }
+
+    @Test
+    public void runs_after_each_hooks_from_inner_to_outer_group() throws Throwable {
+        ExampleGroup outer = new ExampleGroup(null, "outer");
+        outer.addAfterEachHook(() -> log.add("outer 1"));
+        ExampleGroup inner = new ExampleGroup(outer, "inner");
+        inner.addAfterEachHook(() -> log.add("inner 1"));
+        inner.addAfterEachHook(() -> log.add("inner 2"));
+
+        Exceptions.Collector.haltOnFailure(inner.afterEach(null, null));
+
+        assertThat(log, is(asList("inner 1", "inner 2", "outer 1")));
+    }
+
+    @Test
+    public void collects_failures_only_when_a_hook_fails() {
+        ExampleGroup passing = new ExampleGroup(null, "passing");
+        passing.addBeforeEachHook(() -> log.add("passing"));
+        ExampleGroup failing = new ExampleGroup(null, "failing");
+        failing.addBeforeEachHook(() -> { throw new IllegalStateException(); });
+
+        assertThat(passing.beforeEach(null, null), is(nullValue()));
+        assertThat(failing.beforeEach(null, null).failure(), is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    public void indicates_if_it_is_inside_another_group() {
+        ExampleGroup outer = new ExampleGroup(null, "outer");
+        ExampleGroup inner = new ExampleGroup(outer, "inner");
+        ExampleGroup sibling = new ExampleGroup(outer, "sibling");
+
+        assertThat(inner.isSameOrInside(outer), is(true));
+        assertThat(inner.isSameOrInside(inner), is(true));
+        assertThat(inner.isSameOrInside(sibling), is(false));
+        assertThat(outer.isSameOrInside(inner), is(false));
+    }
+
+    @Test
+    public void copies_the_group_and_its_outer_groups_only_once() {
+        ExampleGroup outer = new ExampleGroup(null, "outer");
+        ExampleGroup inner = new ExampleGroup(outer, "inner");
+        IdentityHashMap<ExampleGroup, ExampleGroup> copies = new IdentityHashMap<>();
+
+        ExampleGroup innerCopy = inner.copy(copies);
+
+        assertThat(innerCopy, is(not(sameInstance(inner))));
+        assertThat(innerCopy.parent(), is(sameInstance(outer.copy(copies))));
+        assertThat(innerCopy.descriptions(), is(inner.descriptions()));
+    }
+}
@@ -0,0 +1,128 @@
+package j8spec;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExampleOrderTest {
+
+    private final ExampleOrder order = new ExampleOrder();
+
+    private ExampleGroupConfiguration.Builder groupConfig() {
+        return new ExampleGroupConfiguration.Builder().description("example group");
+    }
+
+    private Example example(String description) {
+        return new Example.Builder()
+            .group(new ExampleGroup(null, "example group"))
+            .description(description)
+            .block(() -> {})
+            .build();
+    }
+
+    @Test
+    public void keeps_definition_order_when_using_defined_order() {
+        Example example1 = example("example 1");
+        Example example2 = example("example 2");
+        Example example3 = example("example 3");
+
+        order.pushLevel(groupConfig().definedOrder().build());
+        order.add(example1);
+        order.pushLevel(groupConfig().build());
+        order.add(example2);
+        order.popLevel();
+        order.add(example3);
+        order.popLevel();
+
+        assertThat(order.examples(), is(asList(example1, example2, example3)));
+    }
+
+    @Test
+    public void returns_no_examples_when_no_level_was_added() {
+        assertThat(order.examples().isEmpty(), is(true));
+    }
+
+    @Test
+    public void generates_the_same_order_for_the_same_seed() {
+        assertThat(descriptions(shuffle(0L, 100)), is(descriptions(shuffle(0L, 100))));
+    }
+
+    @Test
+    public void generates_a_different_order_for_a_different_seed() {
+        assertThat(descriptions(shuffle(0L, 100)), is(not(descriptions(shuffle(1L, 100)))));
+    }
+
+    @Test
+    public void does_not_lose_examples_when_using_random_order() {
+        List<Example> examples = shuffle(0L, 100_000);
+
+        assertThat(examples.size(), is(100_000));
+        assertThat(new HashSet<>(examples).size(), is(100_000));
+    }
+
+    private List<Example> shuffle(long seed, int size) {
+        ExampleOrder order = new ExampleOrder();
+        order.pushLevel(groupConfig().randomOrder().seed(seed).build());
+        for (int i = 0; i < size; i++) {
+            order.add(example("example " + i));
+        }
+        order.popLevel();
+
+        return order.examples();
+    }
+
+    private List<String> descriptions(List<Example> examples) {
+        List<String> descriptions = new ArrayList<>();
+        for (Example example : examples) {
+            descriptions.add(example.description());
+        }
+        return descriptions;
+    }
+
+    @Test
+    public void keeps_examples_of_the_same_group_together_when_using_random_order() {
+        order.pushLevel(groupConfig().randomOrder().seed(0L).build());
+        for (int i = 0; i < 10; i++) {
+            order.pushLevel(groupConfig().build());
+            order.add(example("group " + i + " example 1"));
+            order.add(example("group " + i + " example 2"));
+            order.popLevel();
+        }
+        order.popLevel();
+
+        List<Example> examples = order.examples();
+        for (int i = 0; i < examples.size(); i += 2) {
+            String group = examples.get(i).description().split(" example")[0];
+            assertThat(examples.get(i + 1).description().startsWith(group + " example"), is(true));
+        }
+    }
+
+    @Test
+    public void keeps_definition_order_of_inner_group_using_defined_order() {
+        Example example1 = example("example 1");
+        Example example2 = example("example 2");
+        Example example3 = example("example 3");
+
+        order.pushLevel(groupConfig().randomOrder().seed(0L).build());
+        order.pushLevel(groupConfig().definedOrder().build());
+        order.add(example1);
+        order.add(example2);
+        order.add(example3);
+        order.popLevel();
+        order.popLevel();
+
+        assertThat(order.examples(), is(asList(example1, example2, example3)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void does_not_accept_default_execution_order_in_the_root_level() {
+        order.pushLevel(groupConfig().build());
+    }
+}
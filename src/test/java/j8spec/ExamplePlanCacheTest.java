@@ -0,0 +1,125 @@
+package j8spec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ExamplePlanCacheTest {
+
+    static class CountedSpec {{
+        instances++;
+        it("block 1", UnsafeBlock.NOOP);
+        it("block 2", UnsafeBlock.NOOP);
+    }}
+
+    static class CountedBySeedSpec {{
+        instances++;
+        it("block 1", UnsafeBlock.NOOP);
+    }}
+
+    static class FailingBeforeAllSpec {{
+        beforeAll(() -> { throw new Exception(); });
+        it("block 1", () -> {});
+        it("block 2", () -> {});
+    }}
+
+    static class ShardedSpec {{
+        instances++;
+        for (int i = 1; i <= 8; i++) {
+            it("block " + i, () -> {});
+        }
+    }}
+
+    private static int instances;
+
+    @Before
+    public void enableCache() {
+        instances = 0;
+        System.setProperty("j8spec.plan.cache", "true");
+    }
+
+    @After
+    public void disableCache() {
+        System.setProperty("j8spec.plan.cache", "false");
+        System.clearProperty("j8spec.shard");
+        System.setProperty("j8spec.seed", "");
+        RandomOrderSeedProvider.reset();
+    }
+
+    @Test
+    public void creates_spec_instance_only_once() {
+        read(CountedSpec.class);
+        read(CountedSpec.class);
+
+        assertThat(instances, is(1));
+    }
+
+    @Test
+    public void builds_the_same_examples_for_every_read() {
+        List<Example> first = read(CountedSpec.class);
+        List<Example> second = read(CountedSpec.class);
+
+        assertThat(second.size(), is(first.size()));
+        assertThat(second.get(0).description(), is(first.get(0).description()));
+        assertThat(second.get(1).description(), is(first.get(1).description()));
+    }
+
+    @Test
+    public void reads_spec_again_when_seed_changes() {
+        System.setProperty("j8spec.seed", "1");
+        RandomOrderSeedProvider.reset();
+        read(CountedBySeedSpec.class);
+
+        System.setProperty("j8spec.seed", "2");
+        RandomOrderSeedProvider.reset();
+        read(CountedBySeedSpec.class);
+
+        assertThat(instances, is(2));
+    }
+
+    @Test
+    public void does_not_share_execution_state_between_reads() throws Throwable {
+        List<Example> first = read(FailingBeforeAllSpec.class);
+        try { first.get(0).tryToExecute(); } catch (Exception ignored) {}
+
+        List<Example> second = read(FailingBeforeAllSpec.class);
+
+        assertThat(first.get(1).shouldBeIgnored(), is(true));
+        assertThat(second.get(1).shouldBeIgnored(), is(false));
+        assertThat(second.get(0), is(not(sameInstance(first.get(0)))));
+    }
+
+    @Test
+    public void selects_the_current_shard_on_every_read() {
+        System.setProperty("j8spec.shard", "1/2");
+        List<String> shard1 = descriptions(read(ShardedSpec.class));
+        System.setProperty("j8spec.shard", "2/2");
+        List<String> shard2 = descriptions(read(ShardedSpec.class));
+        System.clearProperty("j8spec.shard");
+        List<Example> all = read(ShardedSpec.class);
+
+        List<String> both = new ArrayList<>(shard1);
+        both.addAll(shard2);
+        assertThat(instances, is(1));
+        assertThat(both.size(), is(8));
+        assertThat(descriptions(all), hasItems(both.toArray(new String[0])));
+        assertThat(all.stream().filter(Example::shouldBeIgnored).count(), is(0L));
+    }
+
+    private static List<String> descriptions(List<Example> examples) {
+        return examples.stream().map(Example::description).collect(toList());
+    }
+}
@@ -1,11 +1,19 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static j8spec.J8Spec.*;
 import static j8spec.UnsafeBlock.NOOP;
@@ -17,16 +25,41 @@ import static org.mockito.Mockito.*;
 
 public class ExampleTest {
 
+    @DefinedOrder
+    static class StressSpec {{
+        Var<Integer> count = var();
+        Var<String> thread = var();
+
+        let(count, () -> 0);
+
+        it("repeated", c -> c.repeat(3), () -> {
+            var(count, var(count) + 1);
+            stressLog.add("repeated " + var(count));
+        });
+
+        it("concurrent", c -> c.concurrently(3, 1), () -> {
+            var(thread, Thread.currentThread().getName());
+            stressBarrier.await(5, TimeUnit.SECONDS);
+            boolean own = var(count) == 0 && var(thread).equals(Thread.currentThread().getName());
+            stressLog.add(own ? "own" : "shared");
+        });
+    }}
+
+    private static List<String> stressLog;
+    private static CyclicBarrier stressBarrier;
+
     @Test
     public void runs_before_hooks_and_then_block() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
+        ExampleGroup group = group();
+        group.addBeforeEachHook(() -> executionOrder.add("beforeEach"));
+        group.addBeforeAllHook(() -> executionOrder.add("beforeAll"));
+
         new Example.Builder()
+            .group(group)
             .description("example")
-            .beforeEachHooks(singletonList(() -> executionOrder.add("beforeEach")))
-            .beforeAllHooks(singletonList(() -> executionOrder.add("beforeAll")))
             .block(() -> executionOrder.add("block"))
-            .rank(new Rank(0))
             .build()
             .tryToExecute();
 
@@ -41,12 +74,14 @@ public class ExampleTest {
     public void runs_block_and_then_after_hooks() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
+        ExampleGroup group = group();
+        group.addAfterAllHook(() -> executionOrder.add("afterAll"));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+
         new Example.Builder()
+            .group(group)
             .description("example")
-            .afterAllHooks(singletonList(() -> executionOrder.add("afterAll")))
-            .afterEachHooks(singletonList(() -> executionOrder.add("afterEach")))
             .block(() -> executionOrder.add("block"))
-            .rank(new Rank(0))
             .build()
             .tryToExecute();
 
@@ -60,23 +95,21 @@ public class ExampleTest {
     @Test
     public void runs_before_all_hooks_only_once() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
+        ExampleGroup group = group();
+        group.addBeforeAllHook(beforeAllHook);
 
         Example example1 = new Example.Builder()
+            .group(group)
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(group)
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
@@ -86,30 +119,28 @@ public class ExampleTest {
     @Test
     public void runs_before_all_hooks_only_once_when_hook_is_not_shared_with_the_previous_example() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addBeforeAllHook(beforeAllHook);
 
         Example example1 = new Example.Builder()
+            .group(innerGroup)
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(outerGroup)
             .description("example 2")
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
+            .group(innerGroup)
             .description("example 3")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-        example3.previous(example2);
-
         example1.tryToExecute();
         example2.tryToExecute();
         example3.tryToExecute();
@@ -120,22 +151,22 @@ public class ExampleTest {
     @Test
     public void runs_before_all_hooks_only_once_when_first_example_has_no_hook() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addBeforeAllHook(beforeAllHook);
 
         Example example1 = new Example.Builder()
+            .group(outerGroup)
             .description("example 1")
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(innerGroup)
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
@@ -145,23 +176,21 @@ public class ExampleTest {
     @Test
     public void runs_after_all_hooks_only_once() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup group = group();
+        group.addAfterAllHook(afterAllHook);
 
         Example example1 = new Example.Builder()
+            .group(group)
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(group)
             .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
@@ -171,30 +200,28 @@ public class ExampleTest {
     @Test
     public void runs_after_all_hooks_only_once_when_hook_is_not_shared_with_the_next_example() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addAfterAllHook(afterAllHook);
 
         Example example1 = new Example.Builder()
+            .group(innerGroup)
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(outerGroup)
             .description("example 2")
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
-            .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(innerGroup)
+            .description("example 3")
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-        example2.next(example3);
-
         example1.tryToExecute();
         example2.tryToExecute();
         example3.tryToExecute();
@@ -205,42 +232,287 @@ public class ExampleTest {
     @Test
     public void runs_after_all_hooks_only_once_when_last_example_has_no_hook() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addAfterAllHook(afterAllHook);
 
         Example example1 = new Example.Builder()
+            .group(innerGroup)
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(outerGroup)
             .description("example 2")
             .block(NOOP)
-            .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
+        example1.tryToExecute();
+        example2.tryToExecute();
+
+        verify(afterAllHook, times(1)).tryToExecute();
+    }
+
+    @Test
+    public void runs_before_all_and_after_all_hooks_only_once_when_examples_are_interleaved() throws Throwable {
+        UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addBeforeAllHook(beforeAllHook);
+        innerGroup.addAfterAllHook(afterAllHook);
+
+        Example example1 = new Example.Builder()
+            .group(innerGroup)
+            .description("example 1")
+            .block(() -> {})
+            .build();
+
+        Example example2 = new Example.Builder()
+            .group(outerGroup)
+            .description("example 2")
+            .block(() -> {})
+            .build();
+
+        Example example3 = new Example.Builder()
+            .group(innerGroup)
+            .description("example 3")
+            .block(() -> {})
+            .build();
 
         example1.tryToExecute();
         example2.tryToExecute();
+        verify(afterAllHook, never()).tryToExecute();
+
+        example3.tryToExecute();
+        verify(beforeAllHook, times(1)).tryToExecute();
+        verify(afterAllHook, times(1)).tryToExecute();
+    }
+
+    @Test
+    public void does_not_wait_for_skipped_examples_to_run_after_all_hooks() throws Throwable {
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup group = group();
+        group.addAfterAllHook(afterAllHook);
+
+        Example example1 = new Example.Builder()
+            .group(group)
+            .description("example 1")
+            .block(() -> {})
+            .build();
+
+        Example example2 = new Example.Builder()
+            .group(group)
+            .description("example 2")
+            .block(() -> {})
+            .build();
+
+        example2.skip();
+        example1.tryToExecute();
+
+        verify(afterAllHook, times(1)).tryToExecute();
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_outer_groups_when_before_all_hook_fails() throws Throwable {
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        UnsafeBlock innerBlock = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        outerGroup.addAfterAllHook(afterAllHook);
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addBeforeAllHook(() -> { throw new Exception(); });
+
+        Example example1 = new Example.Builder()
+            .group(outerGroup)
+            .description("example 1")
+            .block(() -> {})
+            .build();
 
+        Example example2 = new Example.Builder()
+            .group(innerGroup)
+            .description("example 2")
+            .block(innerBlock)
+            .build();
+
+        Example example3 = new Example.Builder()
+            .group(innerGroup)
+            .description("example 3")
+            .block(innerBlock)
+            .build();
+
+        example1.tryToExecute();
+        try { example2.tryToExecute(); } catch (Throwable ignored) {}
+
+        assertThat(example1.shouldBeIgnored(), is(false));
+        assertThat(example3.shouldBeIgnored(), is(true));
+        verify(innerBlock, never()).tryToExecute();
         verify(afterAllHook, times(1)).tryToExecute();
     }
 
+    @Test
+    public void does_not_run_after_all_hooks_of_group_whose_before_all_hook_fails() throws Throwable {
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        ExampleGroup group = group();
+        group.addBeforeAllHook(() -> { throw new Exception(); });
+        group.addAfterAllHook(afterAllHook);
+
+        Example example1 = new Example.Builder()
+            .group(group)
+            .description("example 1")
+            .block(NOOP)
+            .build();
+
+        Example example2 = new Example.Builder()
+            .group(group)
+            .description("example 2")
+            .block(NOOP)
+            .build();
+
+        try { example1.tryToExecute(); } catch (Exception ignored) {}
+        example2.tryToExecute();
+
+        verify(afterAllHook, never()).tryToExecute();
+    }
+
+    @Test
+    public void does_not_enter_inner_group_when_outer_before_all_hook_fails_on_another_thread() throws Throwable {
+        UnsafeBlock innerBeforeAllHook = mock(UnsafeBlock.class);
+        UnsafeBlock innerAfterAllHook = mock(UnsafeBlock.class);
+        UnsafeBlock innerBlock = mock(UnsafeBlock.class);
+        ExampleGroup outerGroup = group();
+        ExampleGroup innerGroup = new ExampleGroup(outerGroup, "inner group");
+        innerGroup.addBeforeAllHook(innerBeforeAllHook);
+        innerGroup.addAfterAllHook(innerAfterAllHook);
+
+        Example example1 = new Example.Builder()
+            .group(outerGroup)
+            .description("example 1")
+            .block(() -> {})
+            .build();
+
+        Example example2 = new Example.Builder()
+            .group(innerGroup)
+            .description("example 2")
+            .block(innerBlock)
+            .build();
+
+        Thread thread = new Thread(() -> {
+            try { example2.tryToExecute(); } catch (Throwable ignored) {}
+        });
+        outerGroup.addBeforeAllHook(() -> {
+            thread.start();
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            throw new IllegalStateException();
+        });
+
+        try { example1.tryToExecute(); } catch (IllegalStateException ignored) {}
+        thread.join();
+
+        verify(innerBeforeAllHook, never()).tryToExecute();
+        verify(innerBlock, never()).tryToExecute();
+        verify(innerAfterAllHook, never()).tryToExecute();
+    }
+
+    @Test
+    public void completes_started_example_once_async_block_and_hooks_complete() throws Throwable {
+        List<String> executionOrder = new ArrayList<>();
+        CompletableFuture<Void> blockResult = new CompletableFuture<>();
+
+        ExampleGroup group = group();
+        group.addBeforeEachHook(new AsyncBlockAdapter(() -> {
+            executionOrder.add("beforeEach");
+            return CompletableFuture.completedFuture(null);
+        }));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+        group.addAfterAllHook(() -> executionOrder.add("afterAll"));
+
+        Example example = new Example.Builder()
+            .group(group)
+            .description("example 1")
+            .block(new AsyncBlockAdapter(() -> blockResult))
+            .build();
+
+        CompletableFuture<Void> result = example.start().toCompletableFuture();
+
+        assertThat(example.isAsync(), is(true));
+        assertThat(result.isDone(), is(false));
+        assertThat(executionOrder, is(singletonList("beforeEach")));
+
+        blockResult.complete(null);
+
+        assertThat(result.isDone(), is(true));
+        assertThat(executionOrder, is(asList("beforeEach", "afterEach", "afterAll")));
+    }
+
+    @Test
+    public void completes_started_example_exceptionally_when_async_block_fails() throws Throwable {
+        Exception failure = new Exception();
+        Example example = new Example.Builder()
+            .group(group())
+            .description("example 1")
+            .block(new AsyncBlockAdapter(() -> {
+                CompletableFuture<Void> result = new CompletableFuture<>();
+                result.completeExceptionally(failure);
+                return result;
+            }))
+            .build();
+
+        try {
+            example.start().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), is(failure));
+            return;
+        }
+        throw new AssertionError("example did not fail");
+    }
+
+    @Test
+    public void runs_after_all_hooks_once_when_started_example_is_abandoned() throws Throwable {
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        CompletableFuture<Void> blockResult = new CompletableFuture<>();
+        IllegalStateException timedOut = new IllegalStateException();
+
+        ExampleGroup group = group();
+        group.addAfterAllHook(afterAllHook);
+
+        Example example = new Example.Builder()
+            .group(group)
+            .description("example 1")
+            .block(new AsyncBlockAdapter(() -> blockResult))
+            .build();
+
+        CompletableFuture<Void> result = example.start().toCompletableFuture();
+        example.abandon(timedOut);
+
+        assertThat(result.isCompletedExceptionally(), is(true));
+        verify(afterAllHook, times(1)).tryToExecute();
+
+        blockResult.complete(null);
+
+        verify(afterAllHook, times(1)).tryToExecute();
+        try {
+            result.join();
+            throw new AssertionError("example did not fail");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), is(timedOut));
+        }
+    }
+
     @Test(expected = Exceptions.MultipleFailures.class)
     public void collects_exceptions_from_block_and_after_hooks() throws Throwable {
+        ExampleGroup group = group();
+        group.addAfterEachHook(() -> { throw new Exception("after each 1"); });
+        group.addAfterEachHook(() -> { throw new Exception("after each 2"); });
+        group.addAfterAllHook(() -> { throw new Exception("after all 1"); });
+        group.addAfterAllHook(() -> { throw new Exception("after all 2"); });
+
         Example example = new Example.Builder()
+            .group(group)
             .description("example 1")
-            .afterEachHooks(asList(
-                () -> { throw new Exception("after each 1"); },
-                () -> { throw new Exception("after each 2"); }
-            ))
-            .afterAllHooks(asList(
-                () -> { throw new Exception("after all 1"); },
-                () -> { throw new Exception("after all 2"); }
-            ))
             .block(() -> { throw new Exception("block"); })
-            .rank(new Rank(0))
             .build();
 
         try {
@@ -261,9 +533,9 @@ public class ExampleTest {
     @Test(expected = Exception.class)
     public void rethrows_exception_from_block() throws Throwable {
         Example example = new Example.Builder()
+            .group(group())
             .description("example 1")
             .block(() -> { throw new Exception(); })
-            .rank(new Rank(0))
             .build();
 
         example.tryToExecute();
@@ -272,8 +544,8 @@ public class ExampleTest {
     @Test
     public void indicates_if_example_should_be_ignored() {
         Example example = new Example.Builder()
+            .group(group())
             .description("example")
-            .rank(new Rank(0))
             .ignored()
             .build();
 
@@ -282,24 +554,21 @@ public class ExampleTest {
 
     @Test
     public void indicates_if_example_should_be_ignored_when_before_all_hook_fails() throws Throwable {
-        UnsafeBlock beforeAllHook = () -> { throw new Exception(); };
+        ExampleGroup group = group();
+        group.addBeforeAllHook(() -> { throw new Exception(); });
 
         Example example1 = new Example.Builder()
+            .group(group)
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(() -> {})
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(group)
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
             .block(() -> {})
-            .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-
         try { example1.tryToExecute(); } catch (Throwable ignored) {}
 
         assertThat(example2.shouldBeIgnored(), is(true));
@@ -308,28 +577,31 @@ public class ExampleTest {
     @Test
     public void indicates_if_example_should_not_be_ignored() {
         Example example = new Example.Builder()
+            .group(group())
             .description("example")
             .block(() -> {})
-            .rank(new Rank(0))
             .build();
 
         assertThat(example.shouldBeIgnored(), is(false));
     }
 
     @Test
-    public void is_sortable_by_rank() {
+    public void is_sortable_by_position() {
         Example example1 = new Example.Builder()
+            .group(group())
             .description("example 1")
             .block(() -> {})
-            .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
+            .group(group())
             .description("example 2")
             .block(() -> {})
-            .rank(new Rank(1))
             .build();
 
+        example1.position(0);
+        example2.position(1);
+
         LinkedList<Example> blocks = new LinkedList<>();
         blocks.add(example2);
         blocks.add(example1);
@@ -349,13 +621,13 @@ public class ExampleTest {
         Var<String> stringVar = var();
         Var<Integer> integerVar = var();
 
-        List<VarInitializer<?>> vars = new LinkedList<>();
-        vars.add(new VarInitializer<>(stringVar, () -> "value"));
-        vars.add(new VarInitializer<>(integerVar, () -> 123));
+        ExampleGroup group = group();
+        group.addVarInitializer(new VarInitializer<>(stringVar, () -> "value"));
+        group.addVarInitializer(new VarInitializer<>(integerVar, () -> 123));
 
         new Example.Builder()
+            .group(group)
             .description("example")
-            .varInitializers(vars)
             .block(() -> {
                 values.add(var(stringVar));
                 values.add(var(integerVar));
@@ -368,4 +640,227 @@ public class ExampleTest {
             123
         )));
     }
+
+    @Test
+    public void runs_hooks_and_block_once_per_repetition() throws Throwable {
+        final List<String> executionOrder = new ArrayList<>();
+
+        ExampleGroup group = group();
+        group.addBeforeAllHook(() -> executionOrder.add("beforeAll"));
+        group.addBeforeEachHook(() -> executionOrder.add("beforeEach"));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+        group.addAfterAllHook(() -> executionOrder.add("afterAll"));
+
+        new Example.Builder()
+            .group(group)
+            .description("example")
+            .block(() -> executionOrder.add("block"))
+            .concurrently(1, 2)
+            .build()
+            .tryToExecute();
+
+        assertThat(executionOrder, is(asList(
+            "beforeAll",
+            "beforeEach",
+            "block",
+            "afterEach",
+            "beforeEach",
+            "block",
+            "afterEach",
+            "afterAll"
+        )));
+    }
+
+    @Test(expected = Exceptions.MultipleFailures.class)
+    public void collects_exceptions_from_all_repetitions() throws Throwable {
+        AtomicInteger repetitions = new AtomicInteger();
+
+        Example example = new Example.Builder()
+            .group(group())
+            .description("example")
+            .block(() -> { throw new Exception("repetition " + repetitions.incrementAndGet()); })
+            .concurrently(1, 3)
+            .build();
+
+        try {
+            example.tryToExecute();
+        } catch (Exceptions.MultipleFailures e) {
+            Throwable[] suppressed = e.getSuppressed();
+
+            assertThat(suppressed.length, is(3));
+            assertThat(suppressed[0].getMessage(), is("repetition 1"));
+            assertThat(suppressed[2].getMessage(), is("repetition 3"));
+
+            throw e;
+        }
+    }
+
+    @Test
+    public void runs_block_on_threads_started_together() throws Throwable {
+        final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        ExampleGroup group = group();
+        group.addBeforeEachHook(() -> executionOrder.add("beforeEach"));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+
+        new Example.Builder()
+            .group(group)
+            .description("example")
+            .block(() -> {
+                threads.add(Thread.currentThread());
+                executionOrder.add("block");
+            })
+            .concurrently(3, 2)
+            .build()
+            .tryToExecute();
+
+        assertThat(threads.size(), is(3));
+        assertThat(executionOrder, is(asList(
+            "beforeEach",
+            "block",
+            "block",
+            "block",
+            "block",
+            "block",
+            "block",
+            "afterEach"
+        )));
+    }
+
+    @Test
+    public void initializes_variables_again_each_time_example_is_repeated() throws Throwable {
+        stressLog = Collections.synchronizedList(new ArrayList<>());
+
+        read(StressSpec.class).get(0).tryToExecute();
+
+        assertThat(stressLog, is(asList("repeated 1", "repeated 1", "repeated 1")));
+    }
+
+    @Test
+    public void keeps_variables_of_each_thread_running_the_block_concurrently() throws Throwable {
+        stressLog = Collections.synchronizedList(new ArrayList<>());
+        stressBarrier = new CyclicBarrier(3);
+
+        read(StressSpec.class).get(1).tryToExecute();
+
+        assertThat(stressLog, is(asList("own", "own", "own")));
+    }
+
+    @Test
+    public void retries_failed_example_with_hooks() throws Throwable {
+        ExampleRetries.resetBudget();
+        final List<String> executionOrder = new ArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        ExampleGroup group = group();
+        group.addBeforeAllHook(() -> executionOrder.add("beforeAll"));
+        group.addBeforeEachHook(() -> executionOrder.add("beforeEach"));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+        group.addAfterAllHook(() -> executionOrder.add("afterAll"));
+
+        new Example.Builder()
+            .group(group)
+            .description("example")
+            .block(() -> {
+                executionOrder.add("block " + attempts.incrementAndGet());
+                if (attempts.get() < 2) {
+                    throw new Exception();
+                }
+            })
+            .retries(2)
+            .build()
+            .tryToExecute();
+
+        assertThat(executionOrder, is(asList(
+            "beforeAll",
+            "beforeEach",
+            "block 1",
+            "afterEach",
+            "beforeEach",
+            "block 2",
+            "afterEach",
+            "afterAll"
+        )));
+    }
+
+    @Test(expected = Exceptions.MultipleFailures.class)
+    public void reports_failures_of_every_attempt() throws Throwable {
+        ExampleRetries.resetBudget();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Example example = new Example.Builder()
+            .group(group())
+            .description("example")
+            .block(() -> { throw new Exception("attempt " + attempts.incrementAndGet()); })
+            .retries(2)
+            .build();
+
+        try {
+            example.tryToExecute();
+        } catch (Exceptions.MultipleFailures e) {
+            Throwable[] suppressed = e.getSuppressed();
+
+            assertThat(suppressed.length, is(3));
+            assertThat(suppressed[0].getMessage(), is("attempt 1"));
+            assertThat(suppressed[1].getMessage(), is("attempt 2"));
+            assertThat(suppressed[2].getMessage(), is("attempt 3"));
+
+            throw e;
+        }
+    }
+
+    @Test
+    public void stops_retrying_once_retry_budget_is_spent() throws Throwable {
+        ExampleRetries.resetBudget();
+        System.setProperty("j8spec.retries", "3");
+        System.setProperty("j8spec.retries.budget", "2");
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                Example example = new Example.Builder()
+                    .group(group())
+                    .description("example " + i)
+                    .block(() -> {
+                        attempts.incrementAndGet();
+                        throw new Exception();
+                    })
+                    .build();
+
+                try { example.tryToExecute(); } catch (Throwable ignored) {}
+            }
+        } finally {
+            System.clearProperty("j8spec.retries");
+            System.clearProperty("j8spec.retries.budget");
+            ExampleRetries.resetBudget();
+        }
+
+        assertThat(attempts.get(), is(4));
+    }
+
+    @Test
+    public void does_not_retry_example_expecting_an_exception() throws Throwable {
+        ExampleRetries.resetBudget();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Example example = new Example.Builder()
+            .group(group())
+            .description("example")
+            .block(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException();
+            })
+            .expectedException(IllegalStateException.class)
+            .retries(2)
+            .build();
+
+        try { example.tryToExecute(); } catch (IllegalStateException ignored) {}
+
+        assertThat(attempts.get(), is(1));
+    }
+
+    private ExampleGroup group() {
+        return new ExampleGroup(null, "group");
+    }
 }
@@ -20,6 +20,15 @@ public class J8SpecFlowDefinedOrderTest {
         it("block 1", () -> log.add("block 1"));
     }}
 
+    @DefinedOrder
+    static class ManyExamplesSpec {{
+        beforeAll(() -> log.add("before all"));
+        for (int i = 0; i < 20_000; i++) {
+            it("block " + i, () -> {});
+        }
+        afterAll(() -> log.add("after all"));
+    }}
+
     @DefinedOrder
     static class SampleSpec {{
         beforeAll(() -> log.add("before all 1"));
@@ -229,6 +238,13 @@ public class J8SpecFlowDefinedOrderTest {
         )));
     }
 
+    @Test
+    public void runs_before_all_and_after_all_hooks_once_for_many_examples() throws Throwable {
+        executeSpec(ManyExamplesSpec.class);
+
+        assertThat(log, is(asList("before all", "after all")));
+    }
+
     @Test
     public void full_spec_flow() throws Throwable {
         executeSpec(SampleSpec.class);
@@ -78,19 +78,19 @@ public class J8SpecFlowRandomOrderTest {
             "before all 1",
 
             "before each 1",
-            "block 3",
+            "block 5",
 
             "before each 1",
-            "block 4",
+            "block 3",
 
             "before each 1",
-            "block 5",
+            "block 2",
 
             "before each 1",
-            "block 1",
+            "block 4",
 
             "before each 1",
-            "block 2"
+            "block 1"
         )));
     }
 
@@ -100,8 +100,8 @@ public class J8SpecFlowRandomOrderTest {
 
         assertThat(log, is(asList(
             "block 3",
-            "block 1",
-            "block 2"
+            "block 2",
+            "block 1"
         )));
     }
 }
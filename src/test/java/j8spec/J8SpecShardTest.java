@@ -0,0 +1,239 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static j8spec.J8Spec.*;
+import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecShardTest {
+
+    @DefinedOrder
+    static class ManyExamplesSpec {{
+        for (int i = 0; i < 40; i++) {
+            it("block " + i, NOOP::tryToExecute);
+        }
+
+        describe("describe with before all", () -> {
+            beforeAll(NOOP);
+            for (int i = 0; i < 10; i++) {
+                it("block " + i, NOOP::tryToExecute);
+            }
+        });
+    }}
+
+    @DefinedOrder
+    static class RootBeforeAllSpec {{
+        beforeAll(NOOP);
+
+        for (int i = 0; i < 40; i++) {
+            it("block " + i, NOOP::tryToExecute);
+        }
+    }}
+
+    @DefinedOrder
+    static class BalancedSpec {{
+        it("block a", NOOP::tryToExecute);
+        it("block b", NOOP::tryToExecute);
+        it("block c", NOOP::tryToExecute);
+        it("block d", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec1 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec2 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec3 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec4 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec5 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec6 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec7 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    static class OneExampleSpec8 {{
+        it("block", NOOP::tryToExecute);
+    }}
+
+    private static final List<Class<?>> ONE_EXAMPLE_SPECS = asList(
+        OneExampleSpec1.class,
+        OneExampleSpec2.class,
+        OneExampleSpec3.class,
+        OneExampleSpec4.class,
+        OneExampleSpec5.class,
+        OneExampleSpec6.class,
+        OneExampleSpec7.class,
+        OneExampleSpec8.class
+    );
+
+    @After
+    public void clearShard() {
+        System.clearProperty("j8spec.shard");
+        System.clearProperty("j8spec.shard.balanced");
+        System.clearProperty("j8spec.durations.file");
+    }
+
+    private static List<Example> readShard(String shard) {
+        System.setProperty("j8spec.shard", shard);
+        return read(ManyExamplesSpec.class);
+    }
+
+    private static List<String> paths(List<Example> examples) {
+        List<String> paths = new ArrayList<>();
+        for (Example example : examples) {
+            paths.add(example.containerDescriptions() + " " + example.description());
+        }
+        return paths;
+    }
+
+    @Test
+    public void assigns_each_example_to_exactly_one_shard() {
+        Set<String> all = new HashSet<>();
+        int total = 0;
+        for (int i = 1; i <= 4; i++) {
+            List<String> shard = paths(readShard(i + "/4"));
+            all.addAll(shard);
+            total += shard.size();
+        }
+
+        assertThat(total, is(50));
+        assertThat(all.size(), is(50));
+    }
+
+    @Test
+    public void assigns_examples_to_the_same_shard_on_every_read() {
+        assertThat(paths(readShard("2/4")), is(paths(readShard("2/4"))));
+    }
+
+    @Test
+    public void keeps_examples_of_groups_with_before_all_hooks_in_the_same_shard() {
+        for (int i = 1; i <= 4; i++) {
+            long inGroup = readShard(i + "/4").stream().filter(e -> e.containerDescriptions().size() == 2).count();
+            assertThat(inGroup == 0 || inGroup == 10, is(true));
+        }
+    }
+
+    @Test
+    public void spreads_examples_of_a_spec_with_before_all_hooks_only_at_its_root_across_shards() {
+        int total = 0;
+        for (int i = 1; i <= 4; i++) {
+            System.setProperty("j8spec.shard", i + "/4");
+            int size = read(RootBeforeAllSpec.class).size();
+            assertThat(size > 0 && size < 40, is(true));
+            total += size;
+        }
+
+        assertThat(total, is(40));
+    }
+
+    @Test
+    public void balances_shards_by_recorded_durations() throws Exception {
+        String spec = BalancedSpec.class.getName();
+        Path durations = Files.createTempFile("j8spec-durations", ".txt");
+        Files.write(durations, asList(
+            "example\t100\t" + spec + "\tblock a",
+            "example\t60\t" + spec + "\tblock b",
+            "example\t50\t" + spec + "\tblock c",
+            "example\t10\t" + spec + "\tblock d"
+        ));
+        System.setProperty("j8spec.durations.file", durations.toString());
+        System.setProperty("j8spec.shard.balanced", "true");
+        try {
+            System.setProperty("j8spec.shard", "1/2");
+            List<Example> shard1 = read(BalancedSpec.class);
+            System.setProperty("j8spec.shard", "2/2");
+            List<Example> shard2 = read(BalancedSpec.class);
+
+            assertThat(descriptions(shard1), is(asList("block a", "block d")));
+            assertThat(descriptions(shard2), is(asList("block b", "block c")));
+        } finally {
+            Files.delete(durations);
+        }
+    }
+
+    @Test
+    public void balances_shards_across_all_specs_with_recorded_durations() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (Class<?> spec : ONE_EXAMPLE_SPECS) {
+            lines.add("example\t10\t" + spec.getName() + "\tblock");
+        }
+        Path durations = Files.createTempFile("j8spec-durations", ".txt");
+        Files.write(durations, lines);
+        System.setProperty("j8spec.durations.file", durations.toString());
+        System.setProperty("j8spec.shard.balanced", "true");
+        try {
+            for (int i = 1; i <= 8; i++) {
+                System.setProperty("j8spec.shard", i + "/8");
+                int selected = 0;
+                for (Class<?> spec : ONE_EXAMPLE_SPECS) {
+                    selected += read(spec).size();
+                }
+                assertThat(selected, is(1));
+            }
+        } finally {
+            Files.delete(durations);
+        }
+    }
+
+    @Test
+    public void keeps_examples_of_groups_with_recorded_before_all_hooks_together_when_balancing() throws Exception {
+        String spec = ManyExamplesSpec.class.getName();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lines.add("example\t10\t" + spec + "\tdescribe with before all\tblock " + i);
+        }
+        lines.add("before-all\t5\t" + spec + "\tdescribe with before all");
+        Path durations = Files.createTempFile("j8spec-durations", ".txt");
+        Files.write(durations, lines);
+        System.setProperty("j8spec.durations.file", durations.toString());
+        System.setProperty("j8spec.shard.balanced", "true");
+        try {
+            for (int i = 1; i <= 4; i++) {
+                long inGroup = readShard(i + "/4").stream().filter(e -> e.containerDescriptions().size() == 2).count();
+                assertThat(inGroup == 0 || inGroup == 10, is(true));
+            }
+        } finally {
+            Files.delete(durations);
+        }
+    }
+
+    private static List<String> descriptions(List<Example> examples) {
+        List<String> descriptions = new ArrayList<>();
+        for (Example example : examples) {
+            descriptions.add(example.description());
+        }
+        return descriptions;
+    }
+
+    @Test(expected = Exceptions.IllegalShardProperty.class)
+    public void throws_exception_if_shard_is_invalid() {
+        readShard("5/4");
+    }
+}
@@ -3,8 +3,13 @@ package j8spec;
 import j8spec.annotation.DefinedOrder;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static j8spec.J8Spec.*;
 import static j8spec.UnsafeBlock.NOOP;
@@ -56,6 +61,19 @@ public class J8SpecTest {
         it("block 1", c -> c.expected(Exception.class), UnsafeBlock.NOOP);
     }}
 
+    @DefinedOrder
+    static class ParallelGroupSpec {{
+        it("block 1", UnsafeBlock.NOOP);
+
+        describe("describe A", c -> c.parallel(), () -> {
+            it("block A.1", UnsafeBlock.NOOP);
+
+            context("context A.A", () -> it("block A.A.1", UnsafeBlock.NOOP));
+        });
+
+        it("block 2", UnsafeBlock.NOOP);
+    }}
+
     @DefinedOrder
     static class SampleSpec {{
         it("block 1", UnsafeBlock.NOOP);
@@ -98,6 +116,16 @@ public class J8SpecTest {
         assertThat(examples.get(0).expected(), is(equalTo(Exception.class)));
     }
 
+    @Test
+    public void runs_in_parallel_only_the_examples_inside_example_groups_configured_as_parallel() {
+        List<Example> examples = read(ParallelGroupSpec.class);
+
+        assertThat(examples.get(0).shouldRunInParallel(), is(false));
+        assertThat(examples.get(1).shouldRunInParallel(), is(true));
+        assertThat(examples.get(2).shouldRunInParallel(), is(true));
+        assertThat(examples.get(3).shouldRunInParallel(), is(false));
+    }
+
     @Test(expected = Exceptions.SpecInitializationFailed.class)
     public void throws_exception_when_fails_to_evaluate_spec() {
         read(BadSpec.class);
@@ -199,4 +227,31 @@ public class J8SpecTest {
         assertThat(var(sleepExamples).size(), is(1));
         assertThat(var(sleepExamples).get(0).description(), is("block"));
     }
+
+    @Test()
+    public void allows_multiple_threads_to_build_examples_at_the_same_time() throws Throwable {
+        final int threadCount = 8;
+        final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        final List<Future<List<Example>>> results = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return read(SampleSpec.class);
+                }));
+            }
+
+            for (Future<List<Example>> result : results) {
+                List<Example> examples = result.get();
+
+                assertThat(examples.size(), is(7));
+                assertThat(examples.get(0).description(), is("block 1"));
+                assertThat(examples.get(6).description(), is("block B.1"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
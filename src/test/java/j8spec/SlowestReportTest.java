@@ -0,0 +1,123 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static j8spec.TimingListener.Phase.AFTER_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_ALL;
+import static j8spec.TimingListener.Phase.BEFORE_EACH;
+import static j8spec.TimingListener.Phase.BLOCK;
+import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SlowestReportTest {
+
+    @DefinedOrder
+    static class SampleSpec {{
+        describe("describe 1", () -> {
+            it("block 1", NOOP::tryToExecute);
+            it("block 2", NOOP::tryToExecute);
+        });
+        it("block 3", NOOP::tryToExecute);
+    }}
+
+    private static final String SPEC = SampleSpec.class.getName();
+
+    private final SlowestReport report = new SlowestReport(2);
+
+    private void record() {
+        List<Example> examples = read(SampleSpec.class);
+        List<String> spec = asList(SPEC);
+        List<String> describe = asList(SPEC, "describe 1");
+
+        report.phaseFinished(examples.get(0), BEFORE_ALL, spec, millis(5));
+        report.phaseFinished(examples.get(0), BEFORE_EACH, describe, millis(50));
+        report.phaseFinished(examples.get(0), BLOCK, describe, millis(1));
+        report.phaseFinished(examples.get(1), BEFORE_EACH, describe, millis(50));
+        report.phaseFinished(examples.get(1), BLOCK, describe, millis(2));
+        report.phaseFinished(examples.get(2), BLOCK, spec, millis(20));
+        report.phaseFinished(examples.get(2), AFTER_ALL, spec, millis(3));
+    }
+
+    private static long millis(long millis) {
+        return MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    public void reports_the_slowest_examples() {
+        record();
+
+        List<SlowestReport.Entry> slowest = report.slowestExamples();
+
+        assertThat(slowest.size(), is(2));
+        assertThat(slowest.get(0).descriptions(), is(asList(SPEC, "describe 1", "block 1")));
+        assertThat(slowest.get(0).nanos(), is(millis(56)));
+        assertThat(slowest.get(1).descriptions(), is(asList(SPEC, "describe 1", "block 2")));
+        assertThat(slowest.get(1).nanos(), is(millis(52)));
+    }
+
+    @Test
+    public void reports_the_slowest_example_groups_including_before_all_and_after_all_hooks() {
+        record();
+
+        List<SlowestReport.Entry> slowest = report.slowestGroups();
+
+        assertThat(slowest.get(0).descriptions(), is(asList(SPEC)));
+        assertThat(slowest.get(0).nanos(), is(millis(131)));
+        assertThat(slowest.get(1).descriptions(), is(asList(SPEC, "describe 1")));
+        assertThat(slowest.get(1).nanos(), is(millis(103)));
+    }
+
+    @Test
+    public void reports_the_hooks_with_the_highest_total_cost() {
+        record();
+
+        List<SlowestReport.Entry> costliest = report.costliestHooks();
+
+        assertThat(costliest.get(0).descriptions(), is(asList(SPEC, "describe 1")));
+        assertThat(costliest.get(0).nanos(), is(millis(100)));
+        assertThat(costliest.get(0).runs(), is(2));
+        assertThat(costliest.get(1).descriptions(), is(asList(SPEC)));
+        assertThat(costliest.get(1).nanos(), is(millis(5)));
+    }
+
+    @Test
+    public void writes_the_report_as_json() throws Exception {
+        record();
+
+        StringWriter json = new StringWriter();
+        report.writeJson(json);
+
+        assertThat(json.toString(), containsString(
+            "{\"descriptions\": [\"" + SPEC + "\", \"describe 1\", \"block 1\"], \"runs\": 1, \"nanos\": 56000000}"
+        ));
+        assertThat(json.toString(), containsString(
+            "{\"descriptions\": [\"" + SPEC + "\"], \"nanos\": 131000000, \"beforeAllNanos\": 5000000, "
+                + "\"afterAllNanos\": 3000000}"
+        ));
+        assertThat(json.toString(), containsString(
+            "{\"descriptions\": [\"" + SPEC + "\", \"describe 1\"], \"phase\": \"BEFORE_EACH\", \"runs\": 2, "
+                + "\"nanos\": 100000000}"
+        ));
+    }
+
+    @Test
+    public void prints_a_summary() {
+        record();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        report.printSummary(new PrintStream(out, true));
+
+        assertThat(out.toString(), containsString("      100 ms  " + SPEC + "/describe 1 BEFORE_EACH (2 runs)"));
+    }
+}
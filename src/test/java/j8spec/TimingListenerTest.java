@@ -0,0 +1,98 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimingListenerTest {
+
+    @DefinedOrder
+    static class SampleSpec {{
+        Var<String> value = var();
+
+        let(value, () -> "value");
+        beforeAll(NOOP);
+        beforeEach(NOOP);
+
+        describe("describe 1", () -> {
+            beforeEach(NOOP);
+            afterEach(NOOP);
+
+            it("block 1", NOOP::tryToExecute);
+            it("block 2", NOOP::tryToExecute);
+        });
+
+        afterAll(NOOP);
+    }}
+
+    public static class RecordingListener implements TimingListener {
+        @Override
+        public void phaseFinished(Example example, Phase phase, List<String> groupDescriptions, long nanos) {
+            log.add(example.description() + " " + phase + " " + groupDescriptions.get(groupDescriptions.size() - 1));
+        }
+    }
+
+    private static final List<String> log = new ArrayList<>();
+
+    @Before
+    public void registerListener() {
+        log.clear();
+        System.setProperty("j8spec.timing.listeners", RecordingListener.class.getName());
+    }
+
+    @After
+    public void unregisterListener() {
+        System.clearProperty("j8spec.timing.listeners");
+    }
+
+    @Test
+    public void reports_each_phase_attributed_to_the_group_that_declared_it() throws Throwable {
+        for (Example example : read(SampleSpec.class)) {
+            example.tryToExecute();
+        }
+
+        String spec = SampleSpec.class.getName();
+        assertThat(log, is(asList(
+            "block 1 LET " + spec,
+            "block 1 BEFORE_ALL " + spec,
+            "block 1 BEFORE_EACH " + spec,
+            "block 1 BEFORE_EACH describe 1",
+            "block 1 BLOCK describe 1",
+            "block 1 AFTER_EACH describe 1",
+            "block 2 LET " + spec,
+            "block 2 BEFORE_EACH " + spec,
+            "block 2 BEFORE_EACH describe 1",
+            "block 2 BLOCK describe 1",
+            "block 2 AFTER_EACH describe 1",
+            "block 2 AFTER_ALL " + spec
+        )));
+    }
+
+    @Test
+    public void does_not_report_anything_when_no_listener_is_registered() throws Throwable {
+        System.clearProperty("j8spec.timing.listeners");
+
+        for (Example example : read(SampleSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log.isEmpty(), is(true));
+    }
+
+    @Test(expected = Exceptions.TimingListenerInitializationFailed.class)
+    public void throws_exception_if_listener_cannot_be_created() {
+        System.setProperty("j8spec.timing.listeners", "j8spec.MissingListener");
+
+        read(SampleSpec.class);
+    }
+}
@@ -1,13 +1,64 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
 import org.junit.Test;
 
-import static j8spec.J8Spec.var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 public class VarTest {
 
+    @DefinedOrder
+    static class ConcurrentSpec {{
+        Var<String> shared = var();
+        Var<String> v1 = var();
+
+        beforeAll(() -> var(shared, "shared"));
+
+        it("block 1", () -> {
+            var(v1, "block 1");
+            barrier.await(5, SECONDS);
+            log.add(var(shared) + " " + var(v1));
+        });
+
+        it("block 2", () -> {
+            var(v1, "block 2");
+            barrier.await(5, SECONDS);
+            log.add(var(shared) + " " + var(v1));
+        });
+    }}
+
+    @DefinedOrder
+    static class AsyncSpec {{
+        Var<String> v1 = var();
+
+        afterEach(() -> log.add(var(v1)));
+
+        itAsync("block 1", () -> {
+            var(v1, "block 1");
+            return pending.get(0);
+        });
+
+        itAsync("block 2", () -> {
+            var(v1, "block 2");
+            return pending.get(1);
+        });
+    }}
+
+    private static List<String> log;
+    private static CyclicBarrier barrier;
+    private static List<CompletableFuture<Void>> pending;
+
     @Test
     public void stores_value_in_variable() {
         final Var<String> s = var();
@@ -16,4 +67,44 @@ public class VarTest {
 
         assertThat(var(s), is("value"));
     }
+
+    @Test
+    public void keeps_a_value_for_each_example_running_on_example_threads() throws Throwable {
+        log = synchronizedList(new ArrayList<>());
+        barrier = new CyclicBarrier(2);
+
+        List<Example> examples = read(ConcurrentSpec.class);
+        Thread thread1 = new ExampleThread(() -> tryToExecute(examples.get(0)), "thread 1");
+        Thread thread2 = new ExampleThread(() -> tryToExecute(examples.get(1)), "thread 2");
+        thread1.start();
+        thread2.start();
+        thread1.join();
+        thread2.join();
+
+        assertThat(log, hasItems("shared block 1", "shared block 2"));
+    }
+
+    @Test
+    public void keeps_a_value_for_each_started_async_example() throws Throwable {
+        log = synchronizedList(new ArrayList<>());
+        pending = asList(new CompletableFuture<>(), new CompletableFuture<>());
+
+        List<Example> examples = read(AsyncSpec.class);
+        CompletableFuture<Void> stage1 = examples.get(0).start().toCompletableFuture();
+        CompletableFuture<Void> stage2 = examples.get(1).start().toCompletableFuture();
+        pending.get(0).complete(null);
+        pending.get(1).complete(null);
+        stage1.get();
+        stage2.get();
+
+        assertThat(log, is(asList("block 1", "block 2")));
+    }
+
+    private static void tryToExecute(Example example) {
+        try {
+            example.tryToExecute();
+        } catch (Throwable e) {
+            log.add(e.toString());
+        }
+    }
 }
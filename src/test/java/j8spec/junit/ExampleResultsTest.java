@@ -0,0 +1,81 @@
+package j8spec.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.runner.Description.createTestDescription;
+
+public class ExampleResultsTest {
+
+    private static final Description EXAMPLE_1 = createTestDescription("Spec", "block 1");
+    private static final Description EXAMPLE_2 = createTestDescription("Spec", "block 2");
+    private static final Description EXAMPLE_3 = createTestDescription("Spec", "block 3");
+
+    private Path directory;
+    private Path file;
+
+    @Before
+    public void createDirectory() throws Exception {
+        directory = Files.createTempDirectory("j8spec-results");
+        file = directory.resolve("j8spec-results.txt");
+    }
+
+    @After
+    public void deleteDirectory() throws Exception {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory.resolve("j8spec-results.txt.lock"));
+        Files.delete(directory);
+    }
+
+    private static void fail(RunListener recorder, Description description) throws Exception {
+        recorder.testStarted(description);
+        recorder.testFailure(new Failure(description, new AssertionError()));
+    }
+
+    @Test
+    public void keeps_the_outcomes_saved_by_other_jvms() throws Exception {
+        ExampleResults jvm1 = ExampleResults.load(file);
+        ExampleResults jvm2 = ExampleResults.load(file);
+
+        fail(jvm1.recorder(), EXAMPLE_1);
+        fail(jvm2.recorder(), EXAMPLE_2);
+        jvm1.save();
+        jvm2.save();
+
+        ExampleResults results = ExampleResults.load(file);
+        assertThat(results.hasFailed(EXAMPLE_1), is(true));
+        assertThat(results.hasFailed(EXAMPLE_2), is(true));
+    }
+
+    @Test
+    public void forgets_examples_that_passed_and_have_not_failed_recently() throws Exception {
+        ExampleResults jvm = ExampleResults.load(file);
+        RunListener recorder = jvm.recorder();
+        fail(recorder, EXAMPLE_1);
+        recorder.testStarted(EXAMPLE_1);
+        recorder.testStarted(EXAMPLE_2);
+        fail(recorder, EXAMPLE_3);
+        jvm.save();
+
+        assertThat(Files.readAllLines(file).size(), is(2));
+        ExampleResults results = ExampleResults.load(file);
+        assertThat(results.hasFailed(EXAMPLE_1), is(false));
+        assertThat(results.lastFailure(EXAMPLE_1) > 0, is(true));
+        assertThat(results.hasFailed(EXAMPLE_3), is(true));
+    }
+
+    @Test
+    public void does_not_keep_results_unless_asked_to() {
+        assertThat(ExampleResults.current(), is(nullValue()));
+    }
+}
@@ -0,0 +1,62 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FailuresFirstOrderTest {
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        it("block 1", () -> {});
+        describe("describe A", () -> {
+            it("block A.1", () -> {});
+            it("block A.2", () -> {});
+        });
+        describe("describe B", () -> {
+            it("block B.1", () -> {});
+            it("block B.2", () -> {});
+        });
+        it("block 2", () -> {});
+    }}
+
+    @Test
+    public void runs_most_recently_failed_examples_first_keeping_groups_together() {
+        Map<String, Long> lastFailures = new HashMap<>();
+        lastFailures.put("block B.2", 20L);
+        lastFailures.put("block 2", 10L);
+        lastFailures.put("block A.1", 5L);
+
+        List<Example> ordered = FailuresFirstOrder.order(
+            read(SampleSpec.class),
+            example -> lastFailures.getOrDefault(example.description(), 0L)
+        );
+
+        assertThat(
+            ordered.stream().map(Example::description).collect(toList()),
+            is(asList("block B.2", "block B.1", "block 2", "block A.1", "block A.2", "block 1"))
+        );
+    }
+
+    @Test
+    public void keeps_order_of_examples_that_never_failed() {
+        List<Example> ordered = FailuresFirstOrder.order(read(SampleSpec.class), example -> 0L);
+
+        assertThat(
+            ordered.stream().map(Example::description).collect(toList()),
+            is(asList("block 1", "block A.1", "block A.2", "block B.1", "block B.2", "block 2"))
+        );
+    }
+}
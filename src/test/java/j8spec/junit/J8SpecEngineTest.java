@@ -0,0 +1,268 @@
+package j8spec.junit;
+
+import j8spec.Var;
+import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.Parallel;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.var;
+import static j8spec.J8Spec.xit;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.platform.engine.discovery.ClassNameFilter.excludeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+public class J8SpecEngineTest {
+
+    @RunWith(J8SpecRunner.class)
+    @DefinedOrder
+    public static class HierarchySpec {{
+        beforeAll(() -> log("before all"));
+
+        it("block 1", () -> log("block 1"));
+
+        describe("describe A", () -> {
+            it("block A.1", () -> log("block A.1"));
+
+            describe("describe A.A", () -> {
+                afterAll(() -> log("after all A.A"));
+
+                it("block A.A.1", () -> log("block A.A.1"));
+            });
+        });
+
+        it("block 2", () -> {
+            if (engineLog != null) {
+                throw new IllegalStateException("block 2");
+            }
+        });
+
+        xit("block 3", () -> {});
+
+        afterAll(() -> log("after all"));
+    }}
+
+    @RunWith(J8SpecRunner.class)
+    @Parallel(threads = 2)
+    public static class ParallelEngineSpec {{
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Var<String> value = var();
+
+        it("block 1", () -> {
+            var(value, "1");
+            barrier.await(5, SECONDS);
+            assertThat(var(value), is("1"));
+        });
+
+        it("block 2", () -> {
+            var(value, "2");
+            barrier.await(5, SECONDS);
+            assertThat(var(value), is("2"));
+        });
+    }}
+
+    @RunWith(J8SpecRunner.class)
+    public static class CountedSpec {{
+        reads.incrementAndGet();
+
+        it("block 1", () -> {});
+    }}
+
+    @RunWith(J8SpecRunner.class)
+    public static class RunCountSpec {{
+        it("block 1", () -> runs.incrementAndGet());
+    }}
+
+    private static final UniqueId ENGINE_ID = UniqueId.forEngine("j8spec");
+
+    private static List<String> engineLog;
+    private static AtomicInteger reads = new AtomicInteger();
+    private static AtomicInteger runs = new AtomicInteger();
+
+    private static void log(String event) {
+        if (engineLog != null) {
+            engineLog.add(event);
+        }
+    }
+
+    @After
+    public void resetLog() {
+        engineLog = null;
+    }
+
+    @Test
+    public void builds_a_container_for_each_example_group() {
+        TestDescriptor engine = new J8SpecEngine().discover(
+            enabled().selectors(selectClass(HierarchySpec.class)).build(),
+            ENGINE_ID
+        );
+
+        TestDescriptor spec = engine.getChildren().iterator().next();
+        assertThat(names(spec), is(asList("block 1", "describe A", "block 2", "block 3")));
+
+        TestDescriptor describeA = child(spec, "describe A");
+        assertThat(describeA.isContainer(), is(true));
+        assertThat(names(describeA), is(asList("block A.1", "describe A.A")));
+        assertThat(names(child(describeA, "describe A.A")), is(asList("block A.A.1")));
+    }
+
+    @Test
+    public void runs_examples_and_reports_their_results() {
+        engineLog = synchronizedList(new ArrayList<>());
+
+        Map<String, String> results = execute(enabled().selectors(selectClass(HierarchySpec.class)).build());
+
+        assertThat(results.get("block 1"), is("SUCCESSFUL"));
+        assertThat(results.get("block A.1"), is("SUCCESSFUL"));
+        assertThat(results.get("block A.A.1"), is("SUCCESSFUL"));
+        assertThat(results.get("block 2"), is("FAILED"));
+        assertThat(results.get("block 3"), is("SKIPPED"));
+        assertThat(results.get("describe A"), is("SUCCESSFUL"));
+        assertThat(engineLog, is(asList(
+            "before all",
+            "block 1",
+            "block A.1",
+            "block A.A.1",
+            "after all A.A",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void runs_only_the_example_selected_by_unique_id() {
+        engineLog = synchronizedList(new ArrayList<>());
+        UniqueId example = ENGINE_ID
+            .append(SpecDescriptor.SEGMENT_TYPE, HierarchySpec.class.getName())
+            .append(ExampleGroupDescriptor.SEGMENT_TYPE, "describe A")
+            .append(ExampleGroupDescriptor.SEGMENT_TYPE, "describe A.A")
+            .append(ExampleDescriptor.SEGMENT_TYPE, "block A.A.1");
+
+        Map<String, String> results = execute(enabled().selectors(selectUniqueId(example)).build());
+
+        assertThat(results.get("block A.A.1"), is("SUCCESSFUL"));
+        assertThat(results.containsKey("block 1"), is(false));
+        assertThat(engineLog, is(asList(
+            "before all",
+            "block A.A.1",
+            "after all A.A",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void does_not_read_specs_excluded_by_class_name_filters() {
+        reads.set(0);
+
+        TestDescriptor engine = new J8SpecEngine().discover(
+            enabled()
+                .selectors(selectPackage("j8spec.junit"))
+                .filters(excludeClassNamePatterns(".*CountedSpec"))
+                .build(),
+            ENGINE_ID
+        );
+
+        assertThat(reads.get(), is(0));
+        assertThat(engine.getChildren().isEmpty(), is(false));
+    }
+
+    @Test
+    public void runs_parallel_examples_concurrently_when_parallel_execution_is_enabled() {
+        Map<String, String> results = execute(
+            enabled()
+                .selectors(selectClass(ParallelEngineSpec.class))
+                .configurationParameter("j8spec.execution.parallel.enabled", "true")
+                .configurationParameter("j8spec.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("j8spec.execution.parallel.config.fixed.parallelism", "2")
+                .build()
+        );
+
+        assertThat(results.get("block 1"), is("SUCCESSFUL"));
+        assertThat(results.get("block 2"), is("SUCCESSFUL"));
+    }
+
+    @Test
+    public void does_not_discover_specs_unless_enabled() {
+        TestDescriptor engine = new J8SpecEngine().discover(
+            request().selectors(selectClass(HierarchySpec.class)).build(),
+            ENGINE_ID
+        );
+
+        assertThat(engine.getChildren().isEmpty(), is(true));
+    }
+
+    @Test
+    public void runs_specs_once_when_the_vintage_engine_is_present_too() {
+        runs.set(0);
+
+        LauncherFactory.create().execute(request().selectors(selectClass(RunCountSpec.class)).build());
+
+        assertThat(runs.get(), is(1));
+    }
+
+    private static LauncherDiscoveryRequestBuilder enabled() {
+        return request()
+            .filters(includeEngines("j8spec"))
+            .configurationParameter(J8SpecEngine.ENABLED, "true");
+    }
+
+    private static Map<String, String> execute(LauncherDiscoveryRequest request) {
+        Map<String, String> results = new LinkedHashMap<>();
+        LauncherFactory.create().execute(request, new TestExecutionListener() {
+            @Override
+            public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+                results.put(testIdentifier.getDisplayName(), "SKIPPED");
+            }
+
+            @Override
+            public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+                results.put(testIdentifier.getDisplayName(), result.getStatus().name());
+            }
+        });
+        return results;
+    }
+
+    private static List<String> names(TestDescriptor descriptor) {
+        List<String> names = new ArrayList<>();
+        for (TestDescriptor child : descriptor.getChildren()) {
+            names.add(child.getDisplayName());
+        }
+        return names;
+    }
+
+    private static TestDescriptor child(TestDescriptor descriptor, String name) {
+        for (TestDescriptor child : descriptor.getChildren()) {
+            if (child.getDisplayName().equals(name)) {
+                return child;
+            }
+        }
+        throw new AssertionError("no child named " + name);
+    }
+}
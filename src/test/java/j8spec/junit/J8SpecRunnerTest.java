@@ -2,24 +2,53 @@ package j8spec.junit;
 
 import j8spec.Example;
 import j8spec.UnsafeBlock;
+import j8spec.Var;
 import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.Isolated;
+import j8spec.annotation.Parallel;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.TestTimedOutException;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.beforeEachAsync;
+import static j8spec.J8Spec.context;
 import static j8spec.J8Spec.describe;
 import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.itAsync;
+import static j8spec.J8Spec.var;
 import static j8spec.J8Spec.xit;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -52,6 +81,179 @@ public class J8SpecRunnerTest {
         it("block 5", c -> c.timeout(500, MILLISECONDS), () -> Thread.sleep(1000));
     }}
 
+    @DefinedOrder
+    public static class AfterAllSpec {{
+        it(BLOCK_1, () -> {});
+        it(BLOCK_2, () -> {});
+        afterAll(newBlock("after all"));
+    }}
+
+    @DefinedOrder
+    @Parallel(threads = 3)
+    public static class ParallelSpec {{
+        beforeAll(() -> parallelLog.add("before all"));
+
+        it(BLOCK_1, () -> { parallelLog.add(BLOCK_1); barrier.await(5, SECONDS); });
+        it(BLOCK_2, () -> { parallelLog.add(BLOCK_2); barrier.await(5, SECONDS); });
+        it(BLOCK_3, () -> { parallelLog.add(BLOCK_3); barrier.await(5, SECONDS); });
+        it(BLOCK_4, () -> { throw new CustomException(); });
+        xit("block 5", () -> {});
+
+        afterAll(() -> parallelLog.add("after all"));
+    }}
+
+    @DefinedOrder
+    @Parallel(threads = 2)
+    public static class ParallelVarSpec {{
+        Var<String> shared = var();
+        Var<String> v1 = var();
+
+        beforeAll(() -> var(shared, "shared"));
+
+        it(BLOCK_1, () -> {
+            var(v1, BLOCK_1);
+            barrier.await(5, SECONDS);
+            parallelLog.add(var(shared) + " " + var(v1));
+        });
+        it(BLOCK_2, () -> {
+            var(v1, BLOCK_2);
+            barrier.await(5, SECONDS);
+            parallelLog.add(var(shared) + " " + var(v1));
+        });
+    }}
+
+    @DefinedOrder
+    public static class ParallelGroupSpec {{
+        it(BLOCK_1, () -> parallelLog.add(Thread.currentThread().getName()));
+
+        describe("describe A", c -> c.parallel(), () -> {
+            it("block A.1", () -> parallelLog.add(Thread.currentThread().getName()));
+
+            context("context A.A", () -> it("block A.A.1", () -> parallelLog.add(Thread.currentThread().getName())));
+        });
+
+        it(BLOCK_2, () -> parallelLog.add(Thread.currentThread().getName()));
+    }}
+
+    @Isolated
+    @DefinedOrder
+    public static class IsolatedSpec {{
+        it(BLOCK_1, () -> System.setProperty("j8spec.isolated.example", "changed"));
+        it(BLOCK_2, () -> { throw new IllegalStateException(ManagementFactory.getRuntimeMXBean().getName()); });
+        xit(BLOCK_3, () -> {});
+    }}
+
+    @Isolated
+    public static class IsolatedOutputSpec {{
+        it(BLOCK_1, () -> {
+            FileOutputStream output = new FileOutputStream(FileDescriptor.out);
+            output.write("printed by the forked JVM\n".getBytes());
+            output.flush();
+        });
+    }}
+
+    @DefinedOrder
+    public static class OnlyFailuresSpec {{
+        it(BLOCK_1, () -> {});
+        it(BLOCK_2, () -> { throw new IllegalStateException(); });
+        describe("describe A", () -> it("block A.1", () -> { throw new IllegalStateException(); }));
+    }}
+
+    @DefinedOrder
+    public static class FailFastSpec {{
+        it(BLOCK_1, () -> { throw new IllegalStateException(); });
+        it(BLOCK_2, () -> { throw new IllegalStateException(); });
+        describe("describe A", () -> it("block A.1", () -> failFastLog.add("block A.1")));
+        afterAll(() -> failFastLog.add("after all"));
+    }}
+
+    @DefinedOrder
+    @Parallel(threads = 2)
+    public static class ParallelFailFastSpec {{
+        it(BLOCK_1, () -> {
+            barrier.await(5, SECONDS);
+            Thread.sleep(10000);
+        });
+        it(BLOCK_2, () -> {
+            barrier.await(5, SECONDS);
+            throw new IllegalStateException();
+        });
+        it(BLOCK_3, () -> failFastLog.add(BLOCK_3));
+    }}
+
+    @DefinedOrder
+    @Parallel(threads = 2)
+    public static class ParallelAfterAllFailFastSpec {{
+        describe("describe A", () -> {
+            it("block A.1", () -> {});
+            afterAll(() -> {
+                afterAllStarted.countDown();
+                Thread.sleep(200);
+                failFastLog.add("after all A");
+            });
+        });
+        it(BLOCK_1, () -> {
+            afterAllStarted.await(5, SECONDS);
+            throw new IllegalStateException();
+        });
+    }}
+
+    @DefinedOrder
+    public static class FlakySpec {{
+        it(BLOCK_1, c -> c.retry(2), () -> {
+            if (flakyAttempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("attempt 1");
+            }
+        });
+    }}
+
+    @DefinedOrder
+    public static class TimeoutSpec {{
+        it(BLOCK_1, c -> c.timeout(5, SECONDS), () -> timeoutThreads.add(Thread.currentThread()));
+        it(BLOCK_2, c -> c.timeout(100, MILLISECONDS), () -> Thread.sleep(5000));
+    }}
+
+    @DefinedOrder
+    public static class AsyncSpec {{
+        beforeEachAsync(() -> CompletableFuture.runAsync(() -> asyncLog.add("before each")));
+
+        itAsync(BLOCK_1, () -> asyncStarted());
+        itAsync(BLOCK_2, () -> asyncStarted());
+        itAsync(BLOCK_3, c -> c.expected(CustomException.class), () -> failedFuture(new CustomException()));
+        itAsync(BLOCK_4, c -> c.timeout(100, MILLISECONDS), CompletableFuture::new);
+        itAsync("block 5", () -> failedFuture(new IllegalStateException()));
+    }}
+
+    @DefinedOrder
+    public static class AsyncTimeoutSpec {{
+        itAsync(BLOCK_1, c -> c.timeout(100, MILLISECONDS), CompletableFuture::new);
+        afterAll(() -> asyncLog.add("after all"));
+    }}
+
+    private static List<String> asyncLog;
+    private static CompletableFuture<Void> allAsyncStarted;
+
+    private static CompletableFuture<Void> asyncStarted() {
+        if (asyncLog.stream().filter("started"::equals).count() == 1) {
+            allAsyncStarted.complete(null);
+        }
+        asyncLog.add("started");
+        return allAsyncStarted;
+    }
+
+    private static CompletableFuture<Void> failedFuture(Throwable cause) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    private static List<Thread> timeoutThreads;
+    private static List<String> parallelLog;
+    private static List<String> failFastLog;
+    private static CyclicBarrier barrier;
+    private static CountDownLatch afterAllStarted;
+    private static AtomicInteger flakyAttempts;
+
     private static Map<String, UnsafeBlock> blocks;
 
     private static UnsafeBlock newBlock(String id) {
@@ -295,4 +497,332 @@ public class J8SpecRunnerTest {
         assertThat(listener.getDescription(), is(runner.describeChild(examples.get(6))));
         assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
     }
+
+    @Test
+    public void runs_after_all_hooks_when_the_remaining_examples_are_filtered_out() throws Throwable {
+        J8SpecRunner runner = new J8SpecRunner(AfterAllSpec.class);
+        List<Example> examples = runner.getChildren();
+
+        runner.filter(Filter.matchMethodDescription(runner.describeChild(examples.get(0))));
+        runner.run(new RunNotifier());
+
+        verify(block("after all")).tryToExecute();
+    }
+
+    @Test
+    public void runs_examples_in_parallel_when_spec_is_annotated_as_parallel() throws Throwable {
+        parallelLog = synchronizedList(new ArrayList<>());
+        barrier = new CyclicBarrier(3);
+
+        J8SpecRunner runner = new J8SpecRunner(ParallelSpec.class);
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        runner.run(runNotifier);
+
+        assertThat(result.getRunCount(), is(4));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(), instanceOf(CustomException.class));
+        assertThat(result.getIgnoreCount(), is(1));
+        assertThat(parallelLog.size(), is(5));
+        assertThat(parallelLog.get(0), is("before all"));
+        assertThat(parallelLog.get(4), is("after all"));
+    }
+
+    @Test
+    public void keeps_variables_of_parallel_examples_running_on_virtual_threads() throws InitializationError {
+        parallelLog = synchronizedList(new ArrayList<>());
+        barrier = new CyclicBarrier(2);
+        System.setProperty("j8spec.virtual.threads", "true");
+        try {
+            J8SpecRunner runner = new J8SpecRunner(ParallelVarSpec.class);
+            RunNotifier runNotifier = new RunNotifier();
+            Result result = new Result();
+            runNotifier.addListener(result.createListener());
+
+            runner.run(runNotifier);
+
+            assertThat(result.getFailureCount(), is(0));
+            assertThat(parallelLog, hasItems("shared " + BLOCK_1, "shared " + BLOCK_2));
+        } finally {
+            System.clearProperty("j8spec.virtual.threads");
+        }
+    }
+
+    @Test
+    public void runs_examples_in_parallel_only_inside_example_groups_configured_as_parallel() throws Throwable {
+        parallelLog = synchronizedList(new ArrayList<>());
+        String runnerThread = Thread.currentThread().getName();
+
+        J8SpecRunner runner = new J8SpecRunner(ParallelGroupSpec.class);
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        runner.run(runNotifier);
+
+        assertThat(result.getRunCount(), is(4));
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(parallelLog.size(), is(4));
+        assertThat(parallelLog.get(0), is(runnerThread));
+        assertThat(parallelLog.get(1), is(not(runnerThread)));
+        assertThat(parallelLog.get(2), is(not(runnerThread)));
+        assertThat(parallelLog.get(3), is(runnerThread));
+    }
+
+    @Test
+    public void runs_only_the_examples_that_failed_the_last_time_they_were_run() throws Exception {
+        Path resultsFile = Files.createTempFile("j8spec-results", ".txt");
+        resultsFile.toFile().deleteOnExit();
+        resultsFile.resolveSibling(resultsFile.getFileName() + ".lock").toFile().deleteOnExit();
+        System.setProperty("j8spec.results.file", resultsFile.toString());
+        System.setProperty("j8spec.results.record", "true");
+        try {
+            new J8SpecRunner(OnlyFailuresSpec.class).run(new RunNotifier());
+
+            System.setProperty("j8spec.only.failures", "true");
+            J8SpecRunner runner = new J8SpecRunner(OnlyFailuresSpec.class);
+
+            assertThat(runner.getChildren().size(), is(2));
+            assertThat(runner.getChildren().get(0).description(), is(BLOCK_2));
+            assertThat(runner.getChildren().get(1).description(), is("block A.1"));
+        } finally {
+            System.clearProperty("j8spec.results.file");
+            System.clearProperty("j8spec.results.record");
+            System.clearProperty("j8spec.only.failures");
+            Files.delete(resultsFile);
+        }
+    }
+
+    @Test
+    public void runs_the_examples_that_failed_first() throws Exception {
+        Path resultsFile = Files.createTempFile("j8spec-results", ".txt");
+        resultsFile.toFile().deleteOnExit();
+        resultsFile.resolveSibling(resultsFile.getFileName() + ".lock").toFile().deleteOnExit();
+        System.setProperty("j8spec.results.file", resultsFile.toString());
+        System.setProperty("j8spec.results.record", "true");
+        try {
+            new J8SpecRunner(OnlyFailuresSpec.class).run(new RunNotifier());
+
+            System.setProperty("j8spec.failures.first", "true");
+            J8SpecRunner runner = new J8SpecRunner(OnlyFailuresSpec.class);
+
+            assertThat(runner.getChildren().size(), is(3));
+            assertThat(runner.getChildren().get(2).description(), is(BLOCK_1));
+        } finally {
+            System.clearProperty("j8spec.results.file");
+            System.clearProperty("j8spec.results.record");
+            System.clearProperty("j8spec.failures.first");
+            Files.delete(resultsFile);
+        }
+    }
+
+    @Test
+    public void stops_running_examples_after_the_given_number_of_failures() throws InitializationError {
+        failFastLog = synchronizedList(new ArrayList<>());
+        System.setProperty("j8spec.fail.fast", "1");
+        try {
+            J8SpecRunner runner = new J8SpecRunner(FailFastSpec.class);
+            RunNotifier runNotifier = new RunNotifier();
+            Result result = new Result();
+            runNotifier.addListener(result.createListener());
+
+            runner.run(runNotifier);
+
+            assertThat(result.getFailureCount(), is(1));
+            assertThat(result.getIgnoreCount(), is(2));
+            assertThat(failFastLog, is(asList("after all")));
+        } finally {
+            System.clearProperty("j8spec.fail.fast");
+        }
+    }
+
+    @Test
+    public void interrupts_examples_running_in_parallel_when_stopping() throws InitializationError {
+        failFastLog = synchronizedList(new ArrayList<>());
+        barrier = new CyclicBarrier(2);
+        System.setProperty("j8spec.fail.fast", "1");
+        try {
+            J8SpecRunner runner = new J8SpecRunner(ParallelFailFastSpec.class);
+            RunNotifier runNotifier = new RunNotifier();
+            Result result = new Result();
+            runNotifier.addListener(result.createListener());
+
+            runner.run(runNotifier);
+
+            assertThat(result.getRunTime() < 5000, is(true));
+            assertThat(failureOf(result, BLOCK_1), instanceOf(InterruptedException.class));
+            assertThat(result.getIgnoreCount(), is(1));
+            assertThat(failFastLog.isEmpty(), is(true));
+        } finally {
+            System.clearProperty("j8spec.fail.fast");
+        }
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_parallel_groups_when_stopping() throws InitializationError {
+        failFastLog = synchronizedList(new ArrayList<>());
+        afterAllStarted = new CountDownLatch(1);
+        System.setProperty("j8spec.fail.fast", "1");
+        try {
+            J8SpecRunner runner = new J8SpecRunner(ParallelAfterAllFailFastSpec.class);
+            RunNotifier runNotifier = new RunNotifier();
+            Result result = new Result();
+            runNotifier.addListener(result.createListener());
+
+            runner.run(runNotifier);
+
+            assertThat(result.getFailureCount(), is(1));
+            assertThat(failureOf(result, BLOCK_1), instanceOf(IllegalStateException.class));
+            assertThat(failFastLog, is(asList("after all A")));
+        } finally {
+            System.clearProperty("j8spec.fail.fast");
+        }
+    }
+
+    @Test
+    public void reports_failed_attempts_of_example_passing_when_retried() throws InitializationError {
+        flakyAttempts = new AtomicInteger();
+        System.setProperty("j8spec.retries.budget", "-1");
+        try {
+            J8SpecRunner runner = new J8SpecRunner(FlakySpec.class);
+            RunNotifier runNotifier = new RunNotifier();
+            RunListenerHelper listener = new RunListenerHelper();
+            runNotifier.addListener(listener);
+
+            runner.runChild(runner.getChildren().get(0), runNotifier);
+
+            assertThat(listener.isAssumptionFailed(), is(true));
+            assertThat(listener.getException().getMessage(), is("Passed on attempt 2 of 3."));
+            assertThat(listener.getException().getCause().getSuppressed()[0].getMessage(), is("attempt 1"));
+        } finally {
+            System.clearProperty("j8spec.retries.budget");
+        }
+    }
+
+    @Test
+    public void runs_example_with_timeout_on_the_calling_thread() throws InitializationError {
+        timeoutThreads = new ArrayList<>();
+        J8SpecRunner runner = new J8SpecRunner(TimeoutSpec.class);
+
+        runner.runChild(runner.getChildren().get(0), new RunNotifier());
+
+        assertThat(timeoutThreads.get(0), is(Thread.currentThread()));
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    @Test
+    public void captures_stack_trace_of_example_that_times_out() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(TimeoutSpec.class);
+        RunNotifier runNotifier = new RunNotifier();
+        RunListenerHelper listener = new RunListenerHelper();
+        runNotifier.addListener(listener);
+
+        runner.runChild(runner.getChildren().get(1), runNotifier);
+
+        assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
+        assertThat(asList(listener.getException().getStackTrace()).toString(), containsString("Thread.sleep"));
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    @Test
+    public void keeps_async_examples_in_flight_until_their_stages_complete() throws Throwable {
+        asyncLog = synchronizedList(new ArrayList<>());
+        allAsyncStarted = new CompletableFuture<>();
+
+        J8SpecRunner runner = new J8SpecRunner(AsyncSpec.class);
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        runner.run(runNotifier);
+
+        assertThat(result.getRunCount(), is(5));
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(failureOf(result, BLOCK_4), instanceOf(TestTimedOutException.class));
+        assertThat(failureOf(result, "block 5"), instanceOf(IllegalStateException.class));
+        assertThat(asyncLog.stream().filter("before each"::equals).count(), is(5L));
+        assertThat(asyncLog.stream().filter("started"::equals).count(), is(2L));
+    }
+
+    @Test
+    public void runs_after_all_hooks_when_async_example_times_out() throws Throwable {
+        asyncLog = synchronizedList(new ArrayList<>());
+
+        J8SpecRunner runner = new J8SpecRunner(AsyncTimeoutSpec.class);
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        runner.run(runNotifier);
+
+        assertThat(failureOf(result, BLOCK_1), instanceOf(TestTimedOutException.class));
+        assertThat(asyncLog, is(asList("after all")));
+    }
+
+    private static Throwable failureOf(Result result, String methodName) {
+        return result.getFailures().stream()
+            .filter(failure -> failure.getDescription().getMethodName().equals(methodName))
+            .findFirst()
+            .get()
+            .getException();
+    }
+
+    @Test
+    public void runs_isolated_spec_in_a_forked_jvm() throws InitializationError {
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        new J8SpecRunner(IsolatedSpec.class).run(runNotifier);
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(1));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is(BLOCK_2));
+        assertThat(result.getFailures().get(0).getException(), instanceOf(IllegalStateException.class));
+        assertThat(
+            result.getFailures().get(0).getMessage(),
+            not(ManagementFactory.getRuntimeMXBean().getName())
+        );
+        assertThat(System.getProperty("j8spec.isolated.example"), is(nullValue()));
+    }
+
+    @Test
+    public void runs_isolated_spec_writing_to_the_standard_output_of_the_forked_jvm() throws InitializationError {
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        new J8SpecRunner(IsolatedOutputSpec.class).run(runNotifier);
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+    }
+
+    @Test
+    public void reuses_forked_jvm_for_the_next_isolated_spec() throws InitializationError {
+        assertThat(forkedJvmOf(IsolatedSpec.class), is(forkedJvmOf(IsolatedSpec.class)));
+    }
+
+    @Test
+    public void replaces_forked_jvm_after_the_given_number_of_specs() throws InitializationError {
+        System.setProperty("j8spec.fork.max.specs", "1");
+        try {
+            assertThat(forkedJvmOf(IsolatedSpec.class), not(forkedJvmOf(IsolatedSpec.class)));
+        } finally {
+            System.clearProperty("j8spec.fork.max.specs");
+        }
+    }
+
+    private static String forkedJvmOf(Class<?> isolatedSpec) throws InitializationError {
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        new J8SpecRunner(isolatedSpec).run(runNotifier);
+
+        return result.getFailures().get(0).getMessage();
+    }
 }
@@ -0,0 +1,113 @@
+package j8spec.junit;
+
+import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.Parallel;
+import j8spec.annotation.SpecClasses;
+import j8spec.annotation.SpecPackage;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.it;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecSuiteTest {
+
+    @DefinedOrder
+    public static class FirstSpec {{
+        beforeAll(() -> suiteLog.add("first before all"));
+        it("block 1", () -> barrier.await(5, SECONDS));
+        it("block 2", () -> suiteLog.add("first block 2"));
+        afterAll(() -> suiteLog.add("first after all"));
+    }}
+
+    @DefinedOrder
+    public static class SecondSpec {{
+        beforeAll(() -> suiteLog.add("second before all"));
+        it("block 1", () -> barrier.await(5, SECONDS));
+        it("block 2", () -> suiteLog.add("second block 2"));
+        afterAll(() -> suiteLog.add("second after all"));
+    }}
+
+    @Parallel(threads = 2)
+    @SpecClasses({FirstSpec.class, SecondSpec.class})
+    public static class TwoSpecsSuite {}
+
+    @RunWith(J8SpecRunner.class)
+    public static class PackagedSpec {{
+        it("block 1", () -> {});
+    }}
+
+    @SpecPackage("j8spec.junit")
+    public static class PackageSuite {}
+
+    public static class EmptySuite {}
+
+    private static List<String> suiteLog;
+    private static CyclicBarrier barrier;
+
+    @Test
+    public void builds_a_child_description_for_each_spec() throws InitializationError {
+        J8SpecSuite suite = new J8SpecSuite(TwoSpecsSuite.class);
+
+        List<Description> children = suite.getDescription().getChildren();
+
+        assertThat(children.size(), is(2));
+        assertThat(children.get(0).getClassName(), is(FirstSpec.class.getName()));
+        assertThat(children.get(0).getChildren().size(), is(2));
+        assertThat(children.get(1).getClassName(), is(SecondSpec.class.getName()));
+        assertThat(children.get(1).getChildren().size(), is(2));
+    }
+
+    @Test
+    public void runs_examples_of_all_specs_at_the_same_time() throws InitializationError {
+        suiteLog = synchronizedList(new ArrayList<>());
+        barrier = new CyclicBarrier(2);
+
+        RunNotifier runNotifier = new RunNotifier();
+        Result result = new Result();
+        runNotifier.addListener(result.createListener());
+
+        new J8SpecSuite(TwoSpecsSuite.class).run(runNotifier);
+
+        assertThat(result.getRunCount(), is(4));
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(suiteLog.size(), is(6));
+        assertThat(suiteLog.indexOf("first before all") < suiteLog.indexOf("first block 2"), is(true));
+        assertThat(suiteLog.indexOf("first block 2") < suiteLog.indexOf("first after all"), is(true));
+        assertThat(suiteLog.indexOf("second before all") < suiteLog.indexOf("second block 2"), is(true));
+        assertThat(suiteLog.indexOf("second block 2") < suiteLog.indexOf("second after all"), is(true));
+    }
+
+    @Test
+    public void finds_specs_in_the_given_package() throws InitializationError {
+        J8SpecSuite suite = new J8SpecSuite(PackageSuite.class);
+
+        List<String> specNames = new ArrayList<>();
+        for (Description child : suite.getDescription().getChildren()) {
+            specNames.add(child.getClassName());
+        }
+
+        assertThat(specNames, hasItem(PackagedSpec.class.getName()));
+        assertThat(specNames, not(hasItem(FirstSpec.class.getName())));
+    }
+
+    @Test(expected = InitializationError.class)
+    public void fails_when_suite_has_neither_spec_classes_nor_spec_package() throws InitializationError {
+        new J8SpecSuite(EmptySuite.class);
+    }
+}
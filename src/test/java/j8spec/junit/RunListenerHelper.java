@@ -9,6 +9,7 @@ public class RunListenerHelper extends RunListener {
     private Description description;
     private Throwable exception;
     private boolean ignored = false;
+    private boolean assumptionFailed = false;
 
     @Override
     public void testFailure(Failure failure) throws Exception {
@@ -18,6 +19,13 @@ public class RunListenerHelper extends RunListener {
         exception = failure.getException();
     }
 
+    @Override
+    public void testAssumptionFailure(Failure failure) {
+        description = failure.getDescription();
+        exception = failure.getException();
+        assumptionFailed = true;
+    }
+
     @Override
     public void testIgnored(Description description) throws Exception {
         this.description = description;
@@ -35,4 +43,8 @@ public class RunListenerHelper extends RunListener {
     public boolean isIgnored() {
         return ignored;
     }
+
+    public boolean isAssumptionFailed() {
+        return assumptionFailed;
+    }
 }